@@ -0,0 +1,71 @@
+package halo.corebridge.demo.common.snowflake;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake 발급 처리량 (기존 synchronized 구현과 비교)
+ *
+ * 한 nodeId는 밀리초당 4096개가 상한이므로, 경합 벤치마크는 시퀀스 대기(backoff) 비용도 함께 측정됩니다.
+ * 스레드 수는 -t로 바꿔 가며 실행합니다.
+ *
+ *   gradle jmh -PjmhArgs="SnowflakeBenchmark.nextId(Synchronized|Cas|Striped)$ -t 1 -wi 2 -w 1 -i 3 -r 1"
+ *   (-t 1, 2, 4, 8, 16, 32, 64)
+ *
+ * 결과 (1 vCPU 컨테이너, JDK 21.0.1, ops/us, 평균 ± 99.9% 오차)
+ *
+ *   threads  nextIdSynchronized  nextIdCas     nextIdStriped
+ *         1  4.02 ± 0.84         3.95 ± 3.05    4.09 ±  0.18
+ *         2  4.04 ± 0.80         4.09 ± 0.11    8.10 ±  1.46
+ *         4  3.99 ± 1.83         4.07 ± 0.32   14.63 ±  7.97
+ *         8  3.97 ± 1.70         4.03 ± 0.51   13.55 ± 11.15
+ *        16  4.00 ± 2.01         4.05 ± 1.31   14.97 ± 13.05
+ *        32  4.08 ± 1.18         3.70 ± 10.25  12.74 ± 19.80
+ *        64  3.93 ± 2.21         4.08 ± 0.53   15.36 ± 13.94
+ *
+ * 단일 nodeId는 한 스레드만으로도 4096/ms 상한에 닿으므로 synchronized와 CAS 모두 스레드 수와 관계없이
+ * 약 4.1 ops/us에 머물고, 둘의 차이는 오차 범위 안입니다 (코어가 하나라 락 경합 비용이 드러나지 않음).
+ * 상한을 넘는 처리량은 스레드마다 다른 nodeId를 쓰는 stripe로만 얻습니다 (스레드 1개일 때는 stripe도 1개).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SnowflakeBenchmark {
+
+    private SynchronizedSnowflake synchronizedBaseline;
+    private Snowflake cas;
+    private Snowflake striped;
+
+    @Setup
+    public void setup() {
+        synchronizedBaseline = new SynchronizedSnowflake(1);
+        cas = new Snowflake(1, 1000);
+        striped = Snowflake.striped(1, 3, 1000);
+    }
+
+    @Benchmark
+    public long nextIdSynchronized() {
+        return synchronizedBaseline.nextId();
+    }
+
+    @Benchmark
+    public long nextIdCas() {
+        return cas.nextId();
+    }
+
+    @Benchmark
+    public long nextIdStriped() {
+        return striped.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(100)
+    public long[] nextIdsBatch100() {
+        return cas.nextIds(100);
+    }
+}
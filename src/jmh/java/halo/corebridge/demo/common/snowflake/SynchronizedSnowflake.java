@@ -0,0 +1,53 @@
+package halo.corebridge.demo.common.snowflake;
+
+/**
+ * 벤치마크 비교용: CAS 전환 이전의 synchronized Snowflake (발급 로직은 그대로 복사)
+ */
+class SynchronizedSnowflake {
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    // UTC = 2026-01-01T00:00:00Z
+    private static final long EPOCH = 1767225600000L;
+
+    private final long nodeId;
+    private long lastTimeMillis = EPOCH;
+    private long sequence = 0L;
+
+    SynchronizedSnowflake(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public synchronized long nextId() {
+        long currentTimeMillis = System.currentTimeMillis();
+
+        if (currentTimeMillis < lastTimeMillis) {
+            throw new IllegalStateException("Clock moved backwards");
+        }
+
+        if (currentTimeMillis == lastTimeMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                currentTimeMillis = waitNextMillis(currentTimeMillis);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimeMillis = currentTimeMillis;
+
+        return ((currentTimeMillis - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long waitNextMillis(long currentTimestamp) {
+        while (currentTimestamp <= lastTimeMillis) {
+            currentTimestamp = System.currentTimeMillis();
+        }
+        return currentTimestamp;
+    }
+}
@@ -0,0 +1,35 @@
+package halo.corebridge.demo.domain.apply.dto;
+
+import halo.corebridge.demo.domain.apply.entity.Apply;
+import halo.corebridge.demo.domain.apply.entity.RecruitmentProcess;
+import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지원 목록 응답 매핑 비용 (목록 조회 시 건당 1회)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplyDtoBenchmark {
+
+    private Apply apply;
+    private RecruitmentProcess process;
+
+    @Setup
+    public void setup() {
+        apply = Apply.create(1L, 2L, 3L, 4L, "자기소개서");
+        process = RecruitmentProcess.create(5L, 1L, 2L, 3L);
+        process.transition(ProcessStep.DOCUMENT_REVIEW);
+    }
+
+    @Benchmark
+    public ApplyDto.ApplyDetailResponse applyDetailResponseFrom() {
+        return ApplyDto.ApplyDetailResponse.from(apply, process);
+    }
+}
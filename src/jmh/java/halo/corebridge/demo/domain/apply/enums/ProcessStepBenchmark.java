@@ -0,0 +1,35 @@
+package halo.corebridge.demo.domain.apply.enums;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상태 전이 검증 비용 (전체 step × step 조합)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessStepBenchmark {
+
+    private static final ProcessStep[] STEPS = ProcessStep.values();
+
+    @Benchmark
+    @OperationsPerInvocation(16 * 16)
+    public void canTransitionToAllPairs(Blackhole bh) {
+        for (ProcessStep from : STEPS) {
+            for (ProcessStep to : STEPS) {
+                bh.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean canTransitionToSingle() {
+        return ProcessStep.DOCUMENT_REVIEW.canTransitionTo(ProcessStep.DOCUMENT_PASS);
+    }
+}
@@ -0,0 +1,37 @@
+package halo.corebridge.demo.domain.jobposting.dto;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JobpostingDto.toSkillsJson 스킬 목록 인코딩 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobpostingDtoBenchmark {
+
+    @Param({"3", "20"})
+    private int size;
+
+    private List<String> skills;
+
+    @Setup
+    public void setup() {
+        skills = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            skills.add("Skill-" + i);
+        }
+    }
+
+    @Benchmark
+    public String toSkillsJson() {
+        return JobpostingDto.toSkillsJson(skills);
+    }
+}
@@ -0,0 +1,84 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import halo.corebridge.demo.CoreBridgeDemoApplication;
+import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.domain.jobposting.dto.HotJobpostingDto;
+import halo.corebridge.demo.domain.jobposting.entity.Jobposting;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 공고 목록 생성 비용
+ *
+ * 실제 리포지토리(H2) 호출을 포함해야 하므로 애플리케이션 컨텍스트를 띄워 측정합니다.
+ * 조회 비용은 전체 공고 수가 아니라 topK에 비례해야 합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HotListBenchmark {
+
+    /** DataInitializer 시드 외에 추가로 넣을 공고 수 */
+    @Param({"0", "200"})
+    private int extraPostings;
+
+    private ConfigurableApplicationContext context;
+    private HotJobpostingService hotJobpostingService;
+    private HotJobpostingRanking ranking;
+    private long[] postingIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(CoreBridgeDemoApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN")
+                .run();
+        hotJobpostingService = context.getBean(HotJobpostingService.class);
+        ranking = context.getBean(HotJobpostingRanking.class);
+
+        Snowflake snowflake = context.getBean(Snowflake.class);
+        JobpostingRepository jobpostingRepository = context.getBean(JobpostingRepository.class);
+        List<Jobposting> postings = new ArrayList<>();
+        for (int i = 0; i < extraPostings; i++) {
+            postings.add(Jobposting.create(snowflake.nextId(), "벤치마크 공고 " + i, "내용", 1L, 1L));
+        }
+        jobpostingRepository.saveAll(postings);
+
+        JobpostingViewService viewService = context.getBean(JobpostingViewService.class);
+        JobpostingLikeService likeService = context.getBean(JobpostingLikeService.class);
+        for (int i = 0; i < postings.size(); i++) {
+            long id = postings.get(i).getJobpostingId();
+            viewService.seed(id, i * 7L);
+            for (long userId = 1; userId <= i % 13; userId++) {
+                likeService.like(userId, id);
+            }
+        }
+        hotJobpostingService.initRanking();
+        postingIds = jobpostingRepository.findAllIds().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<HotJobpostingDto.HotJobpostingResponse> buildHotList() {
+        return hotJobpostingService.getToday();
+    }
+
+    /** 조회 이벤트 기록 (요청 스레드 경로) */
+    @Benchmark
+    public void recordView() {
+        ranking.onView(postingIds[next++ % postingIds.length]);
+    }
+}
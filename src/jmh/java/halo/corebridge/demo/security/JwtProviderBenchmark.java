@@ -0,0 +1,55 @@
+package halo.corebridge.demo.security;
+
+import halo.corebridge.demo.domain.user.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 필터에서 수행되는 JWT 검증/파싱 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtProvider = new JwtProvider(new JwtProperties());
+        jwtProvider.init();
+        token = jwtProvider.createAccessToken(1234567890123L, "bench@corebridge.com", UserRole.ROLE_USER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getClaims() {
+        return jwtProvider.getClaims(token);
+    }
+
+    /** 변경 전 필터의 호출 조합 (검증 3회) */
+    @Benchmark
+    public Object legacyFilterPath() {
+        if (!jwtProvider.validateToken(token)) {
+            return null;
+        }
+        Long userId = jwtProvider.getUserIdFromToken(token);
+        return jwtProvider.getRole(token).name() + userId;
+    }
+
+    /** 현재 필터 경로: 같은 토큰이 반복되면 캐시 적중 */
+    @Benchmark
+    public JwtPrincipal authenticate() {
+        return jwtProvider.authenticate(token);
+    }
+}
@@ -0,0 +1,177 @@
+package halo.corebridge.demo.common.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * long 원소 전용 해시 집합 (open addressing, linear probing)
+ *
+ * 원소마다 Long 객체나 문자열 키를 만들지 않으므로 Set&lt;Long&gt;보다 메모리가 작고 GC 부담이 적습니다.
+ * 0은 빈 칸 표시로 쓰므로 따로 플래그로 관리합니다.
+ * 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] table;
+    private int size;
+    private boolean containsZero;
+    private int resizeAt;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        for (int i = slot(value, mask); ; i = (i + 1) & mask) {
+            long cur = table[i];
+            if (cur == 0) {
+                return false;
+            }
+            if (cur == value) {
+                return true;
+            }
+        }
+    }
+
+    /** @return 새로 추가됐으면 true */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = table.length - 1;
+        int i = slot(value, mask);
+        while (table[i] != 0) {
+            if (table[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = value;
+        if (++size >= resizeAt) {
+            allocateAndRehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /** @return 있어서 지웠으면 true */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int mask = table.length - 1;
+        int i = slot(value, mask);
+        while (table[i] != value) {
+            if (table[i] == 0) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        shiftBack(i, mask);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int[] n = {0};
+        forEach(value -> result[n[0]++] = value);
+        return result;
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    /** 지운 칸 뒤에 이어진 원소를 당겨 채움 (tombstone 없이 탐색 체인 유지) */
+    private void shiftBack(int gap, int mask) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long cur = table[i];
+            if (cur == 0) {
+                table[gap] = 0;
+                return;
+            }
+            int home = slot(cur, mask);
+            // home이 (gap, i] 구간 밖이면 gap으로 옮겨도 탐색 가능
+            boolean movable = gap <= i ? (home <= gap || home > i) : (home <= gap && home > i);
+            if (movable) {
+                table[gap] = cur;
+                gap = i;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void allocateAndRehash(int capacity) {
+        long[] old = table;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value != 0) {
+                int i = slot(value, mask);
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = value;
+            }
+        }
+    }
+
+    /** Snowflake ID는 하위 비트가 순번이라 그대로 쓰면 몰리므로 섞어서 사용 */
+    private static int slot(long value, int mask) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -67,12 +67,15 @@ public class GlobalExceptionHandler {
             case NOT_FOUND, USER_NOT_FOUND, JOBPOSTING_NOT_FOUND,
                  APPLICATION_NOT_FOUND, PROCESS_NOT_FOUND,
                  RESUME_NOT_FOUND, SCHEDULE_NOT_FOUND -> HttpStatus.NOT_FOUND;
-            case INVALID_REQUEST, INVALID_PASSWORD, DUPLICATE_EMAIL,
+            case INVALID_REQUEST, INVALID_CURSOR, INVALID_PASSWORD, DUPLICATE_EMAIL,
                  USER_ALREADY_EXISTS, ALREADY_APPLIED,
                  INVALID_STATUS_TRANSITION, SCHEDULE_CONFLICT,
                  INVALID_TIME_RANGE, CANNOT_CANCEL_IN_PROGRESS -> HttpStatus.BAD_REQUEST;
             case JOBPOSTING_CLOSED, APPLICATION_CLOSED -> HttpStatus.GONE;
-            case PROCESS_ALREADY_COMPLETED -> HttpStatus.CONFLICT;
+            case PROCESS_ALREADY_COMPLETED, PROCESS_CONCURRENTLY_MODIFIED,
+                 IDEMPOTENCY_REQUEST_IN_PROGRESS -> HttpStatus.CONFLICT;
+            case IDEMPOTENCY_KEY_REUSED -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case APPLY_INTAKE_BUSY -> HttpStatus.TOO_MANY_REQUESTS;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
@@ -0,0 +1,130 @@
+package halo.corebridge.demo.common.idempotency;
+
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 중복 제거 저장소 (인메모리, 짧은 TTL)
+ *
+ * 같은 키의 요청이 다시 오면 작업을 다시 실행하지 않고 처음 결과를 그대로 돌려줍니다.
+ * 처리 중인 키로 들어온 요청은 먼저 들어온 요청의 결과를 기다립니다.
+ * 실패한 요청은 기억하지 않으므로, 같은 키로 재시도하면 다시 실행됩니다.
+ *
+ * 키와 함께 요청 fingerprint를 저장해, 같은 키를 다른 요청에 재사용하면 거절합니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMs;
+    private final long waitMs;
+    private final int maxSize;
+
+    private final Counter replayCounter;
+
+    public IdempotencyStore(@Value("${idempotency.ttl-ms:600000}") long ttlMs,
+                            @Value("${idempotency.wait-ms:5000}") long waitMs,
+                            @Value("${idempotency.max-size:10000}") int maxSize,
+                            MeterRegistry meterRegistry) {
+        this.ttlMs = ttlMs;
+        this.waitMs = waitMs;
+        this.maxSize = maxSize;
+        Gauge.builder("idempotency.entries", entries, Map::size)
+                .description("보관 중인 Idempotency-Key 수")
+                .register(meterRegistry);
+        this.replayCounter = Counter.builder("idempotency.replayed")
+                .description("저장된 결과로 응답한 중복 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * key가 없으면 action을 그대로 실행, 있으면 키당 한 번만 실행
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, String fingerprint, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        Entry mine = new Entry(fingerprint, System.currentTimeMillis() + ttlMs);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, mine);
+            if (existing == null) {
+                break;
+            }
+            if (existing.isExpired(System.currentTimeMillis())) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new BaseException(BaseResponseStatus.IDEMPOTENCY_KEY_REUSED);
+            }
+            try {
+                Object result = existing.result.get(waitMs, TimeUnit.MILLISECONDS);
+                replayCounter.increment();
+                return (T) result;
+            } catch (ExecutionException e) {
+                // 먼저 온 요청이 실패해 키가 지워짐 → 이 요청이 다시 실행
+            } catch (TimeoutException e) {
+                throw new BaseException(BaseResponseStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BaseException(BaseResponseStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+        }
+
+        if (entries.size() > maxSize) {
+            purgeExpired();
+        }
+        try {
+            T result = action.get();
+            mine.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        int removed = before - entries.size();
+        if (removed > 0) {
+            log.debug("만료된 Idempotency-Key 정리: {}건", removed);
+        }
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
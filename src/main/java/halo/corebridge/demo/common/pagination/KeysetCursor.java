@@ -0,0 +1,52 @@
+package halo.corebridge.demo.common.pagination;
+
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Snowflake ID 기반 keyset 페이지네이션 커서
+ *
+ * ID가 시간순이므로 "id < 마지막 id" 조건만으로 최신순 다음 페이지를 찾을 수 있습니다.
+ * 클라이언트에는 마지막 id를 base64url로 감싼 불투명 문자열로 전달합니다.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(lastId).array());
+    }
+
+    /** 커서가 없으면 첫 페이지 (Long.MAX_VALUE 미만 전체) */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_CURSOR);
+        }
+    }
+
+    public static int size(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+}
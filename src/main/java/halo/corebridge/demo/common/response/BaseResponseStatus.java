@@ -18,6 +18,9 @@ public enum BaseResponseStatus {
     INTERNAL_SERVER_ERROR(false, 2004, "서버 내부 오류입니다."),
     INVALID_TOKEN(false, 2005, "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(false, 2006, "만료된 토큰입니다."),
+    INVALID_CURSOR(false, 2007, "유효하지 않은 커서입니다."),
+    IDEMPOTENCY_KEY_REUSED(false, 2008, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(false, 2009, "같은 Idempotency-Key의 요청을 처리 중입니다."),
 
     // ========== User Error (3xxx) ==========
     USER_NOT_FOUND(false, 3000, "사용자를 찾을 수 없습니다."),
@@ -36,11 +39,13 @@ public enum BaseResponseStatus {
     APPLICATION_CLOSED(false, 5002, "지원이 마감되었습니다."),
     CANNOT_CANCEL_IN_PROGRESS(false, 5003, "진행 중인 전형은 취소할 수 없습니다."),
     ACCESS_DENIED(false, 5004, "접근 권한이 없습니다."),
+    APPLY_INTAKE_BUSY(false, 5005, "지원 접수가 몰려 있습니다. 잠시 후 다시 시도해 주세요."),
 
     // ========== Process Error (6xxx) ==========
     PROCESS_NOT_FOUND(false, 6000, "채용 프로세스를 찾을 수 없습니다."),
     INVALID_STATUS_TRANSITION(false, 6001, "유효하지 않은 상태 전이입니다."),
     PROCESS_ALREADY_COMPLETED(false, 6002, "이미 종료된 프로세스입니다."),
+    PROCESS_CONCURRENTLY_MODIFIED(false, 6003, "다른 요청이 먼저 프로세스를 변경했습니다. 다시 시도해 주세요."),
 
     // ========== Resume Error (7xxx) ==========
     RESUME_NOT_FOUND(false, 7000, "이력서를 찾을 수 없습니다."),
@@ -1,11 +1,30 @@
 package halo.corebridge.demo.common.snowflake;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
 
 /**
  * Twitter Snowflake 알고리즘 기반 분산 ID 생성기
  *
  * 64bit: | 1 unused | 41 timestamp | 10 node | 12 sequence |
+ *
+ * 마지막 (timestamp, sequence)를 하나의 AtomicLong에 묶어 CAS로 갱신하므로
+ * 모니터 락 없이 동작합니다. nextIds(n)은 같은 밀리초 안의 연속 구간을
+ * CAS 한 번으로 예약하여 대량 생성 시 경합을 줄입니다.
+ *
+ * maxBackwardMillis > 0 이면 그 범위 안의 시계 역행(NTP step-back)은 예외 대신
+ * 마지막 timestamp를 빌려 계속 발급합니다 (borrowed-time 모드).
+ * 시퀀스가 소진되면 spin → yield → park 순서의 제한된 backoff로 다음 밀리초를 기다립니다.
+ *
+ * striped()로 만들면 10bit node 필드를 | worker | stripe | 로 나누고,
+ * 스레드별로 stripe를 골라 서로 다른 nodeId의 상태를 갱신하므로 스레드 간 CAS 경합이 사라집니다.
+ *
+ * workerId를 DB에서 임대한 경우 validUntil()로 받은 임대 만료 시각부터는 발급을 거부합니다.
+ * 임대가 끊긴 동안 다른 인스턴스가 같은 workerId로 발급해도 ID가 겹치지 않게 하기 위함입니다.
  */
 public class Snowflake {
 
@@ -18,48 +37,202 @@ public class Snowflake {
     // UTC = 2026-01-01T00:00:00Z
     private static final long EPOCH = 1767225600000L;
 
-    private final long nodeId;
-    private long lastTimeMillis = EPOCH;
-    private long sequence = 0L;
+    private static final int SPIN_LIMIT = 64;
+    private static final int YIELD_LIMIT = 128;
+    private static final long MAX_PARK_NANOS = 100_000L; // 0.1ms
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final long maxBackwardMillis;
+
+    /** 벽시계보다 앞서 열어준 논리 밀리초 수 */
+    private final LongAdder borrowedMillis = new LongAdder();
+    /** 시퀀스 소진으로 다음 밀리초를 기다린 횟수 */
+    private final LongAdder sequenceWaits = new LongAdder();
+
+    /** 이 시각(epoch ms)부터 발급 거부 (고정 workerId면 무기한) */
+    private volatile long validUntilMillis = Long.MAX_VALUE;
 
     public Snowflake() {
-        this.nodeId = RandomGenerator.getDefault().nextLong(MAX_NODE_ID + 1);
+        this(RandomGenerator.getDefault().nextLong(MAX_NODE_ID + 1));
     }
 
     public Snowflake(long nodeId) {
-        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
-            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
+        this(nodeId, 0L);
+    }
+
+    public Snowflake(long nodeId, long maxBackwardMillis) {
+        this(nodeId, 0, maxBackwardMillis);
+    }
+
+    private Snowflake(long workerId, int stripeBits, long maxBackwardMillis) {
+        if (stripeBits < 0 || stripeBits > NODE_ID_BITS) {
+            throw new IllegalArgumentException("stripeBits must be between 0 and " + NODE_ID_BITS);
         }
-        this.nodeId = nodeId;
+        long maxWorkerId = maxWorkerId(stripeBits);
+        if (workerId < 0 || workerId > maxWorkerId) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + maxWorkerId);
+        }
+        if (maxBackwardMillis < 0) {
+            throw new IllegalArgumentException("maxBackwardMillis must not be negative");
+        }
+        this.stripes = new Stripe[1 << stripeBits];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe((workerId << stripeBits) | i);
+        }
+        this.stripeMask = stripes.length - 1;
+        this.maxBackwardMillis = maxBackwardMillis;
     }
 
-    public synchronized long nextId() {
-        long currentTimeMillis = System.currentTimeMillis();
+    /**
+     * node 필드를 worker(10 - stripeBits) + stripe(stripeBits)로 나눈 생성기
+     */
+    public static Snowflake striped(long workerId, int stripeBits, long maxBackwardMillis) {
+        return new Snowflake(workerId, stripeBits, maxBackwardMillis);
+    }
+
+    /** stripeBits를 쓸 때 할당 가능한 최대 workerId */
+    public static long maxWorkerId(int stripeBits) {
+        return MAX_NODE_ID >>> stripeBits;
+    }
 
-        if (currentTimeMillis < lastTimeMillis) {
-            throw new IllegalStateException("Clock moved backwards");
+    /** workerId 임대 만료 시각 설정 (0이면 즉시 발급 중단) */
+    public void validUntil(long epochMillis) {
+        this.validUntilMillis = epochMillis;
+    }
+
+    public long nextId() {
+        Stripe stripe = currentStripe();
+        return stripe.toId(reserve(stripe, 1));
+    }
+
+    /**
+     * n개의 ID를 한 번에 예약합니다.
+     * 한 밀리초의 시퀀스(4096개) 단위로 나누어 구간마다 CAS 한 번만 수행합니다.
+     */
+    public long[] nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        Stripe stripe = currentStripe();
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            int count = (int) Math.min(n - filled, MAX_SEQUENCE + 1);
+            long first = stripe.toId(reserve(stripe, count));
+            for (int i = 0; i < count; i++) {
+                ids[filled++] = first + i;
+            }
         }
+        return ids;
+    }
+
+    /** nextIds(n)을 LongStream으로 반환 (호출 시점에 이미 예약됨) */
+    public LongStream nextIdStream(int n) {
+        return Arrays.stream(nextIds(n));
+    }
+
+    /**
+     * count개의 연속 시퀀스를 예약하고, 첫 번째 (timestamp, sequence) 상태를 반환합니다.
+     * 상태를 먼저 읽고 시계를 읽으므로, 다른 스레드의 갱신 때문에 시계가 역행한 것처럼 보이는 일은 없습니다.
+     */
+    private long reserve(AtomicLong state, int count) {
+        int waits = 0;
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long lastSequence = current & MAX_SEQUENCE;
+            long wallClock = System.currentTimeMillis();
+            if (wallClock >= validUntilMillis) {
+                throw new IllegalStateException("Snowflake workerId lease is not held");
+            }
+            long now = wallClock - EPOCH;
 
-        if (currentTimeMillis == lastTimeMillis) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            if (sequence == 0) {
-                currentTimeMillis = waitNextMillis(currentTimeMillis);
+            long drift = lastTimestamp - now;
+            if (drift > maxBackwardMillis) {
+                throw new IllegalStateException("Clock moved backwards by " + drift + "ms");
             }
+
+            long timestamp;
+            long firstSequence;
+            if (now > lastTimestamp) {
+                timestamp = now;
+                firstSequence = 0;
+            } else if (lastSequence + count <= MAX_SEQUENCE) {
+                // 같은 밀리초이거나, 역행한 시계 대신 마지막 timestamp를 빌려 씀
+                timestamp = lastTimestamp;
+                firstSequence = lastSequence + 1;
+            } else if (drift > 0 && drift < maxBackwardMillis) {
+                // 역행 중 시퀀스 소진: 허용 범위 안에서 다음 논리 밀리초를 미리 엶
+                timestamp = lastTimestamp + 1;
+                firstSequence = 0;
+            } else {
+                if (waits == 0) {
+                    sequenceWaits.increment();
+                }
+                backoff(waits++);
+                continue;
+            }
+
+            long next = (timestamp << SEQUENCE_BITS) | (firstSequence + count - 1);
+            if (state.compareAndSet(current, next)) {
+                if (timestamp > now && timestamp > lastTimestamp) {
+                    borrowedMillis.increment();
+                }
+                return (timestamp << SEQUENCE_BITS) | firstSequence;
+            }
+        }
+    }
+
+    /** 스레드 ID를 섞어 stripe 선택 (가상 스레드도 고유 ID를 가짐) */
+    private Stripe currentStripe() {
+        if (stripeMask == 0) {
+            return stripes[0];
+        }
+        long h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 32) & stripeMask];
+    }
+
+    /** 대기 시간은 보통 1ms 미만이므로 spin → yield → 짧은 park 순으로 물러남 */
+    private void backoff(int waits) {
+        if (waits < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else if (waits < YIELD_LIMIT) {
+            Thread.yield();
         } else {
-            sequence = 0;
+            long nanos = 1_000L << Math.min(waits - YIELD_LIMIT, 7);
+            LockSupport.parkNanos(Math.min(nanos, MAX_PARK_NANOS));
         }
+    }
 
-        lastTimeMillis = currentTimeMillis;
+    public long getBorrowedMillis() {
+        return borrowedMillis.sum();
+    }
 
-        return ((currentTimeMillis - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
-                | (nodeId << SEQUENCE_BITS)
-                | sequence;
+    public long getSequenceWaits() {
+        return sequenceWaits.sum();
     }
 
-    private long waitNextMillis(long currentTimestamp) {
-        while (currentTimestamp <= lastTimeMillis) {
-            currentTimestamp = System.currentTimeMillis();
+    /**
+     * nodeId 하나의 발급 상태: | (lastTimeMillis - EPOCH) | sequence(12) |
+     * 인접 stripe와 같은 캐시 라인을 공유하지 않도록 뒤쪽을 패딩합니다.
+     */
+    @SuppressWarnings("unused")
+    private static final class Stripe extends AtomicLong {
+
+        private final long nodeId;
+        private long p1, p2, p3, p4, p5, p6, p7;
+
+        private Stripe(long nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        private long toId(long packed) {
+            long timestamp = packed >>> SEQUENCE_BITS;
+            long sequence = packed & MAX_SEQUENCE;
+            return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS))
+                    | (nodeId << SEQUENCE_BITS)
+                    | sequence;
         }
-        return currentTimestamp;
     }
 }
@@ -1,14 +1,38 @@
 package halo.corebridge.demo.common.snowflake;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@RequiredArgsConstructor
 public class SnowflakeConfig {
 
+    private final SnowflakeProperties snowflakeProperties;
+    private final WorkerIdLeaser workerIdLeaser;
+
     @Bean
-    public Snowflake snowflake() {
-        // 데모용: 단일 노드이므로 고정 nodeId
-        return new Snowflake(1);
+    public Snowflake snowflake(MeterRegistry meterRegistry) {
+        int stripeBits = snowflakeProperties.getStripeBits();
+        Long workerId = snowflakeProperties.getWorkerId();
+        boolean leased = workerId == null;
+        if (leased) {
+            workerId = workerIdLeaser.acquire(Snowflake.maxWorkerId(stripeBits));
+        }
+        Snowflake snowflake = Snowflake.striped(
+                workerId, stripeBits, snowflakeProperties.getMaxClockBackwardMs());
+        if (leased) {
+            workerIdLeaser.bind(snowflake);
+        }
+
+        FunctionCounter.builder("snowflake.borrowed.millis", snowflake, Snowflake::getBorrowedMillis)
+                .description("벽시계보다 앞서 빌려 쓴 논리 밀리초")
+                .register(meterRegistry);
+        FunctionCounter.builder("snowflake.sequence.waits", snowflake, Snowflake::getSequenceWaits)
+                .description("시퀀스 소진으로 다음 밀리초를 기다린 횟수")
+                .register(meterRegistry);
+        return snowflake;
     }
 }
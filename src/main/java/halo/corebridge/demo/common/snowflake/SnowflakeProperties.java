@@ -0,0 +1,32 @@
+package halo.corebridge.demo.common.snowflake;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "snowflake")
+public class SnowflakeProperties {
+
+    /** 지정하면 임대 없이 고정 workerId 사용 (비우면 DB 임대) */
+    private Long workerId;
+
+    /** node 10bit 중 스레드 stripe에 쓸 비트 수 (workerId는 10 - stripeBits bit) */
+    private int stripeBits = 0;
+
+    /** 이 범위(ms) 안의 시계 역행은 예외 대신 논리 시간을 빌려 발급 (0이면 즉시 예외) */
+    private long maxClockBackwardMs = 0;
+
+    private Lease lease = new Lease();
+
+    @Getter
+    @Setter
+    public static class Lease {
+        /** 임대 유효 시간 (renew-interval-ms보다 충분히 길게) */
+        private long ttlMs = 60000;
+        private long renewIntervalMs = 20000;
+    }
+}
@@ -0,0 +1,30 @@
+package halo.corebridge.demo.common.snowflake;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snowflake worker ID 임대 기록
+ *
+ * 같은 DB를 쓰는 인스턴스끼리 workerId를 나눠 갖기 위한 테이블.
+ * expiresAt이 지난 행은 다른 인스턴스가 회수할 수 있습니다.
+ */
+@Entity
+@Table(name = "snowflake_worker_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SnowflakeWorkerLease {
+
+    @Id
+    private Long workerId;
+
+    @Column(nullable = false, length = 200)
+    private String instanceId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,46 @@
+package halo.corebridge.demo.common.snowflake;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SnowflakeWorkerLeaseRepository extends JpaRepository<SnowflakeWorkerLease, Long> {
+
+    @Query("SELECT l.workerId FROM SnowflakeWorkerLease l WHERE l.expiresAt > :now")
+    List<Long> findLiveWorkerIds(@Param("now") LocalDateTime now);
+
+    /** 만료된 임대만 조건부로 가져옴 (동시에 시도해도 한 인스턴스만 1을 받음) */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SnowflakeWorkerLease l SET l.instanceId = :instanceId, l.expiresAt = :expiresAt " +
+            "WHERE l.workerId = :workerId AND l.expiresAt <= :now")
+    int claimExpired(@Param("workerId") Long workerId, @Param("instanceId") String instanceId,
+                     @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /** 처음 쓰는 workerId는 INSERT로 선점 (PK 충돌 시 DataIntegrityViolationException) */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO snowflake_worker_lease (worker_id, instance_id, expires_at) " +
+            "VALUES (:workerId, :instanceId, :expiresAt)", nativeQuery = true)
+    int insertLease(@Param("workerId") Long workerId, @Param("instanceId") String instanceId,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SnowflakeWorkerLease l SET l.expiresAt = :expiresAt " +
+            "WHERE l.workerId = :workerId AND l.instanceId = :instanceId")
+    int renew(@Param("workerId") Long workerId, @Param("instanceId") String instanceId,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SnowflakeWorkerLease l SET l.expiresAt = :now " +
+            "WHERE l.workerId = :workerId AND l.instanceId = :instanceId")
+    int release(@Param("workerId") Long workerId, @Param("instanceId") String instanceId,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,143 @@
+package halo.corebridge.demo.common.snowflake;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DB 임대 테이블로 인스턴스별 고유 workerId를 할당
+ *
+ * 기동 시 비어 있거나 만료된 workerId를 가져가고, 주기적으로 만료 시각을 연장합니다.
+ * 종료 시 즉시 만료시켜 다음 인스턴스가 바로 재사용할 수 있게 합니다.
+ *
+ * 연결된 Snowflake는 임대 만료 시각까지만 발급합니다. 연장에 실패하면 같은 workerId가 비어 있을 때
+ * 다시 가져오고, 다른 인스턴스가 쓰고 있으면 되찾을 때까지 발급을 멈춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkerIdLeaser {
+
+    private final SnowflakeWorkerLeaseRepository leaseRepository;
+    private final SnowflakeProperties snowflakeProperties;
+
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName()
+            + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile Long leasedWorkerId;
+    private volatile LocalDateTime leaseExpiresAt;
+    private volatile Snowflake snowflake;
+
+    public long acquire(long maxWorkerId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = nextExpiry(now);
+        Set<Long> live = new HashSet<>(leaseRepository.findLiveWorkerIds(now));
+
+        for (long workerId = 0; workerId <= maxWorkerId; workerId++) {
+            if (live.contains(workerId)) {
+                continue;
+            }
+            if (leaseRepository.claimExpired(workerId, instanceId, now, expiresAt) == 1 || tryInsert(workerId, expiresAt)) {
+                leasedWorkerId = workerId;
+                leaseExpiresAt = expiresAt;
+                log.info("Snowflake workerId {} 임대 완료 (instance={})", workerId, instanceId);
+                return workerId;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 Snowflake workerId가 없습니다 (max=" + maxWorkerId + ")");
+    }
+
+    /** 임대한 workerId로 만든 생성기를 연결 (이후 임대 만료 시각까지만 발급) */
+    public void bind(Snowflake snowflake) {
+        this.snowflake = snowflake;
+        snowflake.validUntil(toEpochMillis(leaseExpiresAt));
+    }
+
+    @Scheduled(fixedDelayString = "${snowflake.lease.renew-interval-ms:20000}")
+    public void renew() {
+        Long workerId = leasedWorkerId;
+        if (workerId == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = nextExpiry(now);
+        try {
+            if (leaseRepository.renew(workerId, instanceId, expiresAt) == 1) {
+                extend(expiresAt);
+                return;
+            }
+            // 만료 후 다른 인스턴스가 가져갔거나 행이 사라짐: 같은 workerId가 비어 있으면 다시 가져옴
+            if (leaseRepository.claimExpired(workerId, instanceId, now, expiresAt) == 1
+                    || tryInsert(workerId, expiresAt)) {
+                log.warn("Snowflake workerId {} 임대를 잃었다가 다시 가져옴 (instance={})", workerId, instanceId);
+                extend(expiresAt);
+                return;
+            }
+        } catch (Exception e) {
+            // DB 장애: 기존 만료 시각이 지나면 생성기가 스스로 발급을 멈춤
+            log.warn("Snowflake workerId {} 임대 연장 중 오류: {}", workerId, e.getMessage());
+            return;
+        }
+        // 다른 인스턴스가 같은 workerId를 쓰는 중: 되찾을 때까지 발급 중단
+        suspend();
+        log.error("Snowflake workerId {}를 다른 인스턴스가 사용 중이라 ID 발급을 중단합니다 (instance={})",
+                workerId, instanceId);
+    }
+
+    @PreDestroy
+    public void release() {
+        Long workerId = leasedWorkerId;
+        if (workerId == null) {
+            return;
+        }
+        // 반납 후에는 다른 인스턴스가 곧바로 가져갈 수 있으므로 먼저 발급을 멈춤
+        suspend();
+        try {
+            leaseRepository.release(workerId, instanceId, LocalDateTime.now());
+        } catch (Exception e) {
+            // 반납 실패 시에도 TTL이 지나면 회수됨
+            log.warn("Snowflake workerId {} 반납 실패: {}", workerId, e.getMessage());
+        }
+    }
+
+    private LocalDateTime nextExpiry(LocalDateTime now) {
+        return now.plusNanos(snowflakeProperties.getLease().getTtlMs() * 1_000_000L);
+    }
+
+    private void extend(LocalDateTime expiresAt) {
+        leaseExpiresAt = expiresAt;
+        Snowflake bound = snowflake;
+        if (bound != null) {
+            bound.validUntil(toEpochMillis(expiresAt));
+        }
+    }
+
+    private void suspend() {
+        Snowflake bound = snowflake;
+        if (bound != null) {
+            bound.validUntil(0L);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private boolean tryInsert(long workerId, LocalDateTime expiresAt) {
+        try {
+            return leaseRepository.insertLease(workerId, instanceId, expiresAt) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
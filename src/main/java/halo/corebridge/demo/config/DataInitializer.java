@@ -12,6 +12,8 @@ import halo.corebridge.demo.domain.comment.entity.Comment;
 import halo.corebridge.demo.domain.comment.repository.CommentRepository;
 import halo.corebridge.demo.domain.jobposting.entity.Jobposting;
 import halo.corebridge.demo.domain.jobposting.repository.JobpostingRepository;
+import halo.corebridge.demo.domain.jobposting.service.JobpostingLikeService;
+import halo.corebridge.demo.domain.jobposting.service.JobpostingViewService;
 import halo.corebridge.demo.domain.notification.entity.Notification;
 import halo.corebridge.demo.domain.notification.enums.NotificationType;
 import halo.corebridge.demo.domain.notification.repository.NotificationRepository;
@@ -56,7 +58,8 @@ public class DataInitializer implements CommandLineRunner {
     private final ScheduleRepository scheduleRepository;
     private final NotificationRepository notificationRepository;
     private final CommentRepository commentRepository;
-    private final halo.corebridge.demo.domain.mock.controller.MockJobpostingExtController mockExtController;
+    private final JobpostingViewService jobpostingViewService;
+    private final JobpostingLikeService jobpostingLikeService;
 
     // 고정 ID (프론트엔드 테스트 편의)
     private long userApplicant, userCompany, userAdmin;
@@ -507,20 +510,24 @@ public class DataInitializer implements CommandLineRunner {
     /**
      * 조회수/좋아요 초기값 세팅
      * 지원 수, 댓글 수를 기반으로 현실적인 비율로 산출
+     * (좋아요는 실제 사용자 단위로 저장되므로 데모 지원자 수만큼이 상한)
      */
     private void initViewAndLikeCounts() {
         long[] jpIds = {jp1, jp2, jp3, jp4, jp5};
+        long[] likers = {userApplicant, user2, user3, user4, user5};
         for (long jpId : jpIds) {
             long applyCount = applyRepository.countByJobpostingId(jpId);
             long commentCount = commentRepository.countByJobpostingId(jpId);
 
             // 조회수: 지원 1건당 평균 30~50회 조회 + 댓글당 10회 + 기본 트래픽
             long views = applyCount * 40 + commentCount * 10 + 50;
-            // 좋아요: 조회수의 10~15%
+            // 좋아요: 조회수의 10~15% (5건당 데모 사용자 1명)
             long likes = (long) (views * 0.12);
 
-            mockExtController.setViewCount(jpId, views);
-            mockExtController.setLikeCount(jpId, likes);
+            jobpostingViewService.seed(jpId, views);
+            for (int i = 0; i < Math.min(likes / 5, likers.length); i++) {
+                jobpostingLikeService.like(likers[i], jpId);
+            }
         }
         log.info("조회수/좋아요 초기값 세팅 완료 (지원수·댓글수 기반)");
     }
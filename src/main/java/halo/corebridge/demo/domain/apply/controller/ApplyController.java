@@ -4,6 +4,7 @@ import halo.corebridge.demo.common.response.BaseResponse;
 import halo.corebridge.demo.domain.apply.dto.ApplyDto;
 import halo.corebridge.demo.domain.apply.dto.ProcessDto;
 import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import halo.corebridge.demo.domain.apply.service.ApplyIntakeService;
 import halo.corebridge.demo.domain.apply.service.ApplyService;
 import halo.corebridge.demo.domain.apply.service.ProcessService;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.List;
 public class ApplyController {
 
     private final ApplyService applyService;
+    private final ApplyIntakeService applyIntakeService;
     private final ProcessService processService;
 
     // ============================================
@@ -28,6 +30,17 @@ public class ApplyController {
         return BaseResponse.success(applyService.apply(request));
     }
 
+    /** intake 모드 접수 (applyId를 바로 받고, 반영 여부는 상태 조회로 확인) */
+    @PostMapping("/intake")
+    public BaseResponse<ApplyDto.IntakeResponse> submitIntake(@RequestBody ApplyDto.CreateRequest request) {
+        return BaseResponse.success(applyIntakeService.submit(request));
+    }
+
+    @GetMapping("/intake/{applyId}")
+    public BaseResponse<ApplyDto.IntakeResponse> getIntakeStatus(@PathVariable Long applyId) {
+        return BaseResponse.success(applyIntakeService.getStatus(applyId));
+    }
+
     @DeleteMapping("/{applyId}/users/{userId}")
     public BaseResponse<Void> cancel(@PathVariable Long applyId, @PathVariable Long userId) {
         applyService.cancel(applyId, userId);
@@ -53,6 +66,16 @@ public class ApplyController {
         return BaseResponse.success(applyService.getAppliesByJobposting(jobpostingId));
     }
 
+    /** 커서 기반 지원자 목록 (최신순, withTotal=false면 count 쿼리 생략) */
+    @GetMapping("/jobpostings/{jobpostingId}/scroll")
+    public BaseResponse<ApplyDto.ApplyScrollResponse> scrollAppliesByJobposting(
+            @PathVariable Long jobpostingId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return BaseResponse.success(applyService.scrollAppliesByJobposting(jobpostingId, cursor, size, withTotal));
+    }
+
     @GetMapping("/jobpostings/{jobpostingId}/steps/{step}")
     public BaseResponse<ApplyDto.ApplyPageResponse> getAppliesByStep(
             @PathVariable Long jobpostingId, @PathVariable ProcessStep step) {
@@ -0,0 +1,26 @@
+package halo.corebridge.demo.domain.apply.controller;
+
+import halo.corebridge.demo.common.response.BaseResponse;
+import halo.corebridge.demo.domain.apply.service.ProcessStatsCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 채용 프로세스 관리자 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/processes")
+public class ProcessAdminController {
+
+    private final ProcessStatsCounter statsCounter;
+
+    /** 통계 카운터를 비우고 다음 조회 시 DB 기준으로 재적재 */
+    @PostMapping("/stats/rebuild")
+    public BaseResponse<Void> rebuildStats() {
+        statsCounter.rebuild();
+        return BaseResponse.success();
+    }
+}
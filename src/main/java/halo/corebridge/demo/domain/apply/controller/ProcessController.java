@@ -17,6 +17,9 @@ import java.util.List;
 @RequestMapping("/api/v1/processes")
 public class ProcessController {
 
+    /** 같은 키로 재요청하면 전이를 다시 하지 않고 처음 결과를 반환 */
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final ProcessService processService;
 
     // ============================================
@@ -25,14 +28,24 @@ public class ProcessController {
 
     @PatchMapping("/{processId}/transition")
     public BaseResponse<ProcessDto.ProcessResponse> transition(
-            @PathVariable Long processId, @RequestBody ProcessDto.TransitionRequest request) {
-        return BaseResponse.success(processService.transition(processId, request));
+            @PathVariable Long processId, @RequestBody ProcessDto.TransitionRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return BaseResponse.success(processService.transition(processId, request, idempotencyKey));
+    }
+
+    /** 여러 지원자를 같은 단계로 한 번에 전이 (항목별 성공/실패 결과 반환) */
+    @PatchMapping("/bulk/transition")
+    public BaseResponse<ProcessDto.BulkTransitionResponse> bulkTransition(
+            @RequestBody ProcessDto.BulkTransitionRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return BaseResponse.success(processService.bulkTransition(request, idempotencyKey));
     }
 
     @PatchMapping("/applies/{applyId}/transition")
     public BaseResponse<ProcessDto.ProcessResponse> transitionByApply(
-            @PathVariable Long applyId, @RequestBody ProcessDto.TransitionRequest request) {
-        return BaseResponse.success(processService.transitionByApplyId(applyId, request));
+            @PathVariable Long applyId, @RequestBody ProcessDto.TransitionRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return BaseResponse.success(processService.transitionByApplyId(applyId, request, idempotencyKey));
     }
 
     // ============================================
@@ -54,6 +67,16 @@ public class ProcessController {
         return BaseResponse.success(processService.getByJobposting(jobpostingId));
     }
 
+    /** 커서 기반 공고별 목록 (최신순, withTotal=false면 count 쿼리 생략) */
+    @GetMapping("/jobpostings/{jobpostingId}/scroll")
+    public BaseResponse<ProcessDto.ProcessScrollResponse> scrollByJobposting(
+            @PathVariable Long jobpostingId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return BaseResponse.success(processService.scrollByJobposting(jobpostingId, cursor, size, withTotal));
+    }
+
     @GetMapping("/jobpostings/{jobpostingId}/steps/{step}")
     public BaseResponse<ProcessDto.ProcessPageResponse> getByJobpostingAndStep(
             @PathVariable Long jobpostingId, @PathVariable ProcessStep step) {
@@ -65,6 +88,15 @@ public class ProcessController {
         return BaseResponse.success(processService.getByUser(userId));
     }
 
+    @GetMapping("/users/{userId}/scroll")
+    public BaseResponse<ProcessDto.ProcessScrollResponse> scrollByUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        return BaseResponse.success(processService.scrollByUser(userId, cursor, size, withTotal));
+    }
+
     // ============================================
     // 이력
     // ============================================
@@ -88,6 +120,12 @@ public class ProcessController {
         return BaseResponse.success(processService.getAllSteps());
     }
 
+    /** 단계별 다음/도달 가능 단계와 전체 전이 간선 */
+    @GetMapping("/steps/graph")
+    public BaseResponse<ProcessDto.StepGraphResponse> getStepGraph() {
+        return BaseResponse.success(processService.getStepGraph());
+    }
+
     // ============================================
     // 통계
     // ============================================
@@ -106,4 +144,11 @@ public class ProcessController {
     public BaseResponse<ProcessDto.CompanyStatsResponse> getCompanyStats(@RequestBody List<Long> jobpostingIds) {
         return BaseResponse.success(processService.getCompanyStats(jobpostingIds));
     }
+
+    /** 여러 공고의 공고별 통계를 한 번에 */
+    @PostMapping("/company/stats/jobpostings")
+    public BaseResponse<List<ProcessDto.JobpostingStatsResponse>> getStatsByJobposting(
+            @RequestBody List<Long> jobpostingIds) {
+        return BaseResponse.success(processService.getStatsByJobposting(jobpostingIds));
+    }
 }
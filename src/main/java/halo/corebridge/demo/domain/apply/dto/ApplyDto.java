@@ -1,8 +1,11 @@
 package halo.corebridge.demo.domain.apply.dto;
 
 import halo.corebridge.demo.domain.apply.entity.Apply;
+import halo.corebridge.demo.domain.apply.entity.ApplyIntake;
 import halo.corebridge.demo.domain.apply.entity.RecruitmentProcess;
+import halo.corebridge.demo.domain.apply.enums.ApplyIntakeStatus;
 import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import halo.corebridge.demo.domain.apply.repository.ApplyDetailView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -92,6 +95,39 @@ public class ApplyDto {
                     .stepChangedAt(process.getStepChangedAt())
                     .build();
         }
+
+        public static ApplyDetailResponse from(ApplyDetailView view) {
+            ProcessStep currentStep = view.getCurrentStep();
+            ProcessStep previousStep = view.getPreviousStep();
+            return ApplyDetailResponse.builder()
+                    .applyId(view.getApplyId())
+                    .jobpostingId(view.getJobpostingId())
+                    .userId(view.getUserId())
+                    .resumeId(view.getResumeId())
+                    .coverLetter(view.getCoverLetter())
+                    .memo(view.getMemo())
+                    .appliedAt(view.getAppliedAt())
+                    .processId(view.getProcessId())
+                    .currentStep(currentStep)
+                    .currentStepName(currentStep.getDisplayName())
+                    .previousStep(previousStep)
+                    .previousStepName(previousStep != null ? previousStep.getDisplayName() : null)
+                    .allowedNextSteps(currentStep.getAllowedNextSteps())
+                    .completed(currentStep.isTerminal())
+                    .passed(currentStep.isPass())
+                    .failed(currentStep.isFail())
+                    .stepChangedAt(view.getStepChangedAt())
+                    .build();
+        }
+    }
+
+    /** 커서 기반 목록 (totalCount는 withTotal=true일 때만) */
+    @Getter @Builder
+    public static class ApplyScrollResponse {
+        private List<ApplyDetailResponse> applies;
+        private String nextCursor;
+        private boolean hasNext;
+        private Long totalCount;
     }
 
     @Getter @Builder
@@ -103,4 +139,37 @@ public class ApplyDto {
             return ApplyPageResponse.builder().applies(applies).totalCount(count).build();
         }
     }
+
+    /** intake 접수 결과 / 상태 조회 */
+    @Getter @Builder
+    public static class IntakeResponse {
+        private Long applyId;
+        private Long jobpostingId;
+        private Long userId;
+        private ApplyIntakeStatus status;
+        private String statusDescription;
+        private String reason;
+        private LocalDateTime queuedAt;
+        private LocalDateTime processedAt;
+
+        public static IntakeResponse from(ApplyIntake intake) {
+            return IntakeResponse.builder()
+                    .applyId(intake.getApplyId())
+                    .jobpostingId(intake.getJobpostingId()).userId(intake.getUserId())
+                    .status(intake.getStatus()).statusDescription(intake.getStatus().getDescription())
+                    .reason(intake.getFailureReason())
+                    .queuedAt(intake.getQueuedAt()).processedAt(intake.getProcessedAt())
+                    .build();
+        }
+
+        /** 대기열을 거치지 않고 바로 반영된 지원 */
+        public static IntakeResponse accepted(Long applyId, Long jobpostingId, Long userId, LocalDateTime appliedAt) {
+            return IntakeResponse.builder()
+                    .applyId(applyId).jobpostingId(jobpostingId).userId(userId)
+                    .status(ApplyIntakeStatus.ACCEPTED)
+                    .statusDescription(ApplyIntakeStatus.ACCEPTED.getDescription())
+                    .processedAt(appliedAt)
+                    .build();
+        }
+    }
 }
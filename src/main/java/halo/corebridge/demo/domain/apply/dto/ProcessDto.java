@@ -8,6 +8,7 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class ProcessDto {
@@ -20,6 +21,54 @@ public class ProcessDto {
         private String note;
     }
 
+    /** 여러 프로세스를 같은 단계로 한 번에 전이 */
+    @Getter @Builder
+    public static class BulkTransitionRequest {
+        private List<Long> processIds;
+        private ProcessStep nextStep;
+        private Long changedBy;
+        private String reason;
+        private String note;
+    }
+
+    @Getter @Builder
+    public static class BulkTransitionResponse {
+        private ProcessStep nextStep;
+        private int requested;
+        private int succeeded;
+        private int failed;
+        private List<BulkTransitionResult> results;
+
+        public static BulkTransitionResponse of(ProcessStep nextStep, List<BulkTransitionResult> results) {
+            int succeeded = (int) results.stream().filter(BulkTransitionResult::isSuccess).count();
+            return BulkTransitionResponse.builder()
+                    .nextStep(nextStep)
+                    .requested(results.size()).succeeded(succeeded).failed(results.size() - succeeded)
+                    .results(results)
+                    .build();
+        }
+    }
+
+    /** 항목별 전이 결과 (실패 시 error에 사유) */
+    @Getter @Builder
+    public static class BulkTransitionResult {
+        private Long processId;
+        private boolean success;
+        private ProcessStep fromStep;
+        private ProcessStep toStep;
+        private String error;
+
+        public static BulkTransitionResult success(Long processId, ProcessStep from, ProcessStep to) {
+            return BulkTransitionResult.builder()
+                    .processId(processId).success(true).fromStep(from).toStep(to).build();
+        }
+
+        public static BulkTransitionResult fail(Long processId, ProcessStep from, String error) {
+            return BulkTransitionResult.builder()
+                    .processId(processId).success(false).fromStep(from).error(error).build();
+        }
+    }
+
     @Getter @Builder
     public static class ProcessResponse {
         private Long processId;
@@ -65,6 +114,15 @@ public class ProcessDto {
         }
     }
 
+    /** 커서 기반 목록 (processCount는 withTotal=true일 때만) */
+    @Getter @Builder
+    public static class ProcessScrollResponse {
+        private List<ProcessResponse> processes;
+        private String nextCursor;
+        private boolean hasNext;
+        private Long processCount;
+    }
+
     @Getter @Builder
     public static class HistoryResponse {
         private Long historyId;
@@ -109,6 +167,43 @@ public class ProcessDto {
         }
     }
 
+    /** 전체 상태 전이 그래프 (UI 렌더링용) */
+    @Getter @Builder
+    public static class StepGraphResponse {
+        private ProcessStep initialStep;
+        private List<StepNodeResponse> nodes;
+        private List<StepEdgeResponse> edges;
+    }
+
+    @Getter @Builder
+    public static class StepNodeResponse {
+        private ProcessStep step;
+        private String displayName;
+        private ProcessStep.Category category;
+        private String categoryName;
+        private boolean terminal;
+        private Set<ProcessStep> nextSteps;
+        private Set<ProcessStep> reachableSteps;
+        private boolean canReachPass;
+
+        public static StepNodeResponse from(ProcessStep step) {
+            return StepNodeResponse.builder()
+                    .step(step).displayName(step.getDisplayName())
+                    .category(step.getCategory()).categoryName(step.getCategory().getDisplayName())
+                    .terminal(step.isTerminal())
+                    .nextSteps(step.getNextSteps())
+                    .reachableSteps(step.getReachableSteps())
+                    .canReachPass(step.canReach(ProcessStep.FINAL_PASS))
+                    .build();
+        }
+    }
+
+    @Getter @Builder
+    public static class StepEdgeResponse {
+        private ProcessStep from;
+        private ProcessStep to;
+    }
+
     @Getter @Builder
     public static class UserStatsResponse {
         private Long totalProcesses;
@@ -127,6 +222,14 @@ public class ProcessDto {
         }
     }
 
+    /** 공고별 통계 + 단계별 인원 */
+    @Getter @Builder
+    public static class JobpostingStatsResponse {
+        private Long jobpostingId;
+        private CompanyStatsResponse stats;
+        private Map<ProcessStep, Long> stepCounts;
+    }
+
     @Getter @Builder
     public static class CompanyStatsResponse {
         private Long totalApplicants;
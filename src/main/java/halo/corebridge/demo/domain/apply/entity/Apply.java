@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -13,15 +14,21 @@ import java.time.LocalDateTime;
  *
  * 채용 공고에 대한 지원 기록을 저장합니다.
  * 상태(진행 단계)는 RecruitmentProcess에서 관리합니다.
+ *
+ * ID를 직접 할당하므로 Persistable로 신규 여부를 알려, save() 시 merge용 SELECT 없이 바로 insert 합니다.
  */
 @Entity
 @Table(
         name = "apply",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"jobpostingId", "userId"})
+        uniqueConstraints = @UniqueConstraint(name = Apply.UK_JOBPOSTING_USER, columnNames = {"jobpostingId", "userId"}),
+        indexes = @Index(name = "idx_apply_jobposting_apply", columnList = "jobpostingId, applyId")
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Apply extends BaseTimeEntity {
+public class Apply extends BaseTimeEntity implements Persistable<Long> {
+
+    /** 중복 지원 판단 기준 (위반 시 ALREADY_APPLIED) */
+    public static final String UK_JOBPOSTING_USER = "uk_apply_jobposting_user";
 
     @Id
     private Long applyId;
@@ -39,6 +46,10 @@ public class Apply extends BaseTimeEntity {
     @Column(columnDefinition = "CLOB")
     private String coverLetter;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     public static Apply create(Long applyId, Long jobpostingId, Long userId,
                                Long resumeId, String coverLetter) {
         Apply apply = new Apply();
@@ -57,6 +68,22 @@ public class Apply extends BaseTimeEntity {
         return create(applyId, jobpostingId, userId, resumeId, null);
     }
 
+    @Override
+    public Long getId() {
+        return applyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public void updateMemo(String memo) {
         this.memo = memo;
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,84 @@
+package halo.corebridge.demo.domain.apply.entity;
+
+import halo.corebridge.demo.domain.apply.enums.ApplyIntakeStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지원 접수 대기열 (intake 모드)
+ *
+ * 요청 스레드에서는 이 행 하나만 insert 하고, 백그라운드 materializer가
+ * Apply / RecruitmentProcess / ProcessHistory 로 batch 반영한 뒤 상태를 바꿉니다.
+ * applyId는 접수 시점에 미리 발급한 Snowflake ID이며, 반영 후 Apply의 ID가 됩니다.
+ */
+@Entity
+@Table(name = "apply_intake", indexes = {
+        @Index(name = "idx_apply_intake_status_apply", columnList = "status, applyId")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ApplyIntake implements Persistable<Long> {
+
+    @Id
+    private Long applyId;
+
+    @Column(nullable = false)
+    private Long jobpostingId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long resumeId;
+
+    @Column(columnDefinition = "CLOB")
+    private String coverLetter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ApplyIntakeStatus status;
+
+    private String failureReason;
+
+    @Column(nullable = false)
+    private LocalDateTime queuedAt;
+
+    private LocalDateTime processedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public static ApplyIntake create(Long applyId, Long jobpostingId, Long userId,
+                                     Long resumeId, String coverLetter) {
+        ApplyIntake intake = new ApplyIntake();
+        intake.applyId = applyId;
+        intake.jobpostingId = jobpostingId;
+        intake.userId = userId;
+        intake.resumeId = resumeId;
+        intake.coverLetter = coverLetter;
+        intake.status = ApplyIntakeStatus.PENDING;
+        intake.queuedAt = LocalDateTime.now();
+        return intake;
+    }
+
+    @Override
+    public Long getId() {
+        return applyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
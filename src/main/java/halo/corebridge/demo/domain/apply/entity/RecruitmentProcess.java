@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
  * Apply와 1:1 관계이며, 지원 시 함께 생성됩니다.
  */
 @Entity
-@Table(name = "recruitment_process")
+@Table(name = "recruitment_process", indexes = {
+        @Index(name = "idx_process_jobposting_process", columnList = "jobpostingId, processId"),
+        @Index(name = "idx_process_user_process", columnList = "userId, processId")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RecruitmentProcess {
@@ -45,6 +48,10 @@ public class RecruitmentProcess {
 
     private LocalDateTime updatedAt;
 
+    /** 동시 전이 감지용 (낙관적 락) */
+    @Version
+    private Long version;
+
     public static RecruitmentProcess create(Long processId, Long applyId,
                                             Long jobpostingId, Long userId) {
         RecruitmentProcess process = new RecruitmentProcess();
@@ -0,0 +1,15 @@
+package halo.corebridge.demo.domain.apply.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ApplyIntakeStatus {
+    PENDING("접수 대기"),
+    ACCEPTED("지원 완료"),
+    REJECTED("접수 거절"),
+    FAILED("반영 실패");
+
+    private final String description;
+}
@@ -1,5 +1,9 @@
 package halo.corebridge.demo.domain.apply.enums;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -7,68 +11,206 @@ import java.util.Set;
  *
  * 각 상태에서 허용되는 다음 상태를 정의하여
  * 잘못된 상태 전이를 방지합니다.
+ *
+ * 전이 표와 분류는 클래스 로딩 시 ordinal 비트마스크로 미리 계산하므로
+ * canTransitionTo / isFail / in(mask) 는 할당 없이 비트 연산 한 번으로 끝납니다.
+ * (단계 수가 32개를 넘으면 int 마스크를 long으로 넓혀야 합니다.)
  */
 public enum ProcessStep {
     // 서류 단계
-    APPLIED("지원완료", Set.of("DOCUMENT_REVIEW")),
-    DOCUMENT_REVIEW("서류검토중", Set.of("DOCUMENT_PASS", "DOCUMENT_FAIL")),
-    DOCUMENT_PASS("서류합격", Set.of("CODING_TEST", "INTERVIEW_1")),
-    DOCUMENT_FAIL("서류탈락", Set.of()),
+    APPLIED("지원완료", Category.SCREENING, "DOCUMENT_REVIEW"),
+    DOCUMENT_REVIEW("서류검토중", Category.SCREENING, "DOCUMENT_PASS", "DOCUMENT_FAIL"),
+    DOCUMENT_PASS("서류합격", Category.INTERVIEWING, "CODING_TEST", "INTERVIEW_1"),
+    DOCUMENT_FAIL("서류탈락", Category.FAILED),
 
     // 코딩테스트
-    CODING_TEST("코딩테스트", Set.of("CODING_PASS", "CODING_FAIL")),
-    CODING_PASS("코딩테스트합격", Set.of("INTERVIEW_1")),
-    CODING_FAIL("코딩테스트탈락", Set.of()),
+    CODING_TEST("코딩테스트", Category.INTERVIEWING, "CODING_PASS", "CODING_FAIL"),
+    CODING_PASS("코딩테스트합격", Category.INTERVIEWING, "INTERVIEW_1"),
+    CODING_FAIL("코딩테스트탈락", Category.FAILED),
 
     // 면접 단계
-    INTERVIEW_1("1차면접", Set.of("INTERVIEW_1_PASS", "INTERVIEW_1_FAIL")),
-    INTERVIEW_1_PASS("1차면접합격", Set.of("INTERVIEW_2")),
-    INTERVIEW_1_FAIL("1차면접탈락", Set.of()),
+    INTERVIEW_1("1차면접", Category.INTERVIEWING, "INTERVIEW_1_PASS", "INTERVIEW_1_FAIL"),
+    INTERVIEW_1_PASS("1차면접합격", Category.INTERVIEWING, "INTERVIEW_2"),
+    INTERVIEW_1_FAIL("1차면접탈락", Category.FAILED),
 
-    INTERVIEW_2("2차면접", Set.of("INTERVIEW_2_PASS", "INTERVIEW_2_FAIL")),
-    INTERVIEW_2_PASS("2차면접합격", Set.of("FINAL_REVIEW")),
-    INTERVIEW_2_FAIL("2차면접탈락", Set.of()),
+    INTERVIEW_2("2차면접", Category.INTERVIEWING, "INTERVIEW_2_PASS", "INTERVIEW_2_FAIL"),
+    INTERVIEW_2_PASS("2차면접합격", Category.INTERVIEWING, "FINAL_REVIEW"),
+    INTERVIEW_2_FAIL("2차면접탈락", Category.FAILED),
 
     // 최종
-    FINAL_REVIEW("최종검토", Set.of("FINAL_PASS", "FINAL_FAIL")),
-    FINAL_PASS("최종합격", Set.of()),
-    FINAL_FAIL("최종불합격", Set.of());
+    FINAL_REVIEW("최종검토", Category.INTERVIEWING, "FINAL_PASS", "FINAL_FAIL"),
+    FINAL_PASS("최종합격", Category.PASSED),
+    FINAL_FAIL("최종불합격", Category.FAILED);
+
+    /** 전체 단계 */
+    public static final int ALL_MASK;
+    /** 종료되지 않은 단계 (서류전형 + 전형진행) */
+    public static final int IN_PROGRESS_MASK;
+
+    private static final ProcessStep[] VALUES = values();
+    private static final int[] CATEGORY_MASKS = new int[Category.values().length];
+    private static final Set<?>[] CATEGORY_STEPS = new Set<?>[Category.values().length];
 
     private final String displayName;
+    private final Category category;
     private final Set<String> allowedNextSteps;
 
-    ProcessStep(String displayName, Set<String> allowedNextSteps) {
+    // 아래 값은 모든 상수가 만들어진 뒤 static 블록에서 한 번만 채움
+    private int nextMask;
+    private int reachableMask;
+    private Set<ProcessStep> nextSteps;
+    private Set<ProcessStep> reachableSteps;
+
+    static {
+        int all = 0;
+        for (ProcessStep step : VALUES) {
+            all |= step.bit();
+            for (String next : step.allowedNextSteps) {
+                step.nextMask |= valueOf(next).bit();
+            }
+            CATEGORY_MASKS[step.category.ordinal()] |= step.bit();
+        }
+        ALL_MASK = all;
+
+        // 도달 가능 집합 = 다음 단계들의 도달 가능 집합의 합 (변화가 없을 때까지 반복)
+        for (ProcessStep step : VALUES) {
+            step.reachableMask = step.nextMask;
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (ProcessStep step : VALUES) {
+                int reachable = step.reachableMask;
+                for (ProcessStep next : VALUES) {
+                    if ((step.reachableMask & next.bit()) != 0) {
+                        reachable |= next.reachableMask;
+                    }
+                }
+                if (reachable != step.reachableMask) {
+                    step.reachableMask = reachable;
+                    changed = true;
+                }
+            }
+        }
+
+        for (ProcessStep step : VALUES) {
+            step.nextSteps = stepsOf(step.nextMask);
+            step.reachableSteps = stepsOf(step.reachableMask);
+        }
+        for (int i = 0; i < CATEGORY_MASKS.length; i++) {
+            CATEGORY_STEPS[i] = stepsOf(CATEGORY_MASKS[i]);
+        }
+        IN_PROGRESS_MASK = CATEGORY_MASKS[Category.SCREENING.ordinal()]
+                | CATEGORY_MASKS[Category.INTERVIEWING.ordinal()];
+    }
+
+    ProcessStep(String displayName, Category category, String... allowedNextSteps) {
         this.displayName = displayName;
-        this.allowedNextSteps = allowedNextSteps;
+        this.category = category;
+        this.allowedNextSteps = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(allowedNextSteps)));
     }
 
     public String getDisplayName() {
         return displayName;
     }
 
+    public Category getCategory() {
+        return category;
+    }
+
     public Set<String> getAllowedNextSteps() {
         return allowedNextSteps;
     }
 
+    /** 바로 다음으로 갈 수 있는 단계 (읽기 전용 EnumSet) */
+    public Set<ProcessStep> getNextSteps() {
+        return nextSteps;
+    }
+
+    /** 이 단계에서 한 번 이상 전이해서 도달할 수 있는 모든 단계 */
+    public Set<ProcessStep> getReachableSteps() {
+        return reachableSteps;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public int nextMask() {
+        return nextMask;
+    }
+
+    public int reachableMask() {
+        return reachableMask;
+    }
+
+    /** mask(ALL_MASK, IN_PROGRESS_MASK, Category.mask() 등)에 포함되는지 */
+    public boolean in(int mask) {
+        return (mask & bit()) != 0;
+    }
+
     public boolean canTransitionTo(ProcessStep nextStep) {
-        return allowedNextSteps.contains(nextStep.name());
+        return (nextMask & nextStep.bit()) != 0;
+    }
+
+    public boolean canReach(ProcessStep target) {
+        return (reachableMask & target.bit()) != 0;
     }
 
     public boolean isTerminal() {
-        return allowedNextSteps.isEmpty();
+        return nextMask == 0;
     }
 
     public boolean isPass() {
-        return this == FINAL_PASS;
+        return category == Category.PASSED;
     }
 
     public boolean isFail() {
-        return this == DOCUMENT_FAIL || this == CODING_FAIL ||
-                this == INTERVIEW_1_FAIL || this == INTERVIEW_2_FAIL ||
-                this == FINAL_FAIL;
+        return category == Category.FAILED;
     }
 
     public boolean isInProgress() {
         return !isTerminal();
     }
+
+    /** 마스크에 해당하는 단계 집합 (JPQL IN 파라미터 등으로 그대로 사용 가능) */
+    public static Set<ProcessStep> stepsOf(int mask) {
+        EnumSet<ProcessStep> steps = EnumSet.noneOf(ProcessStep.class);
+        for (ProcessStep step : VALUES) {
+            if (step.in(mask)) {
+                steps.add(step);
+            }
+        }
+        return Collections.unmodifiableSet(steps);
+    }
+
+    /**
+     * 통계용 단계 분류
+     */
+    public enum Category {
+        SCREENING("서류전형"),
+        INTERVIEWING("전형진행"),
+        PASSED("합격"),
+        FAILED("불합격");
+
+        private final String displayName;
+
+        Category(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        // 마스크는 ProcessStep 초기화 때 계산됨 (여기서 접근하면 ProcessStep이 먼저 초기화됨)
+        public int mask() {
+            return CATEGORY_MASKS[ordinal()];
+        }
+
+        @SuppressWarnings("unchecked")
+        public Set<ProcessStep> getSteps() {
+            return (Set<ProcessStep>) CATEGORY_STEPS[ordinal()];
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package halo.corebridge.demo.domain.apply.repository;
+
+import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+
+import java.time.LocalDateTime;
+
+/**
+ * Apply + RecruitmentProcess 조인 조회용 projection
+ *
+ * 목록 조회에서 지원 건마다 프로세스를 따로 읽지 않도록 한 쿼리로 가져옵니다.
+ */
+public interface ApplyDetailView {
+
+    Long getApplyId();
+
+    Long getJobpostingId();
+
+    Long getUserId();
+
+    Long getResumeId();
+
+    String getCoverLetter();
+
+    String getMemo();
+
+    LocalDateTime getAppliedAt();
+
+    Long getProcessId();
+
+    ProcessStep getCurrentStep();
+
+    ProcessStep getPreviousStep();
+
+    LocalDateTime getStepChangedAt();
+}
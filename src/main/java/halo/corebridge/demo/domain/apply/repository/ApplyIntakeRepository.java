@@ -0,0 +1,30 @@
+package halo.corebridge.demo.domain.apply.repository;
+
+import halo.corebridge.demo.domain.apply.entity.ApplyIntake;
+import halo.corebridge.demo.domain.apply.enums.ApplyIntakeStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApplyIntakeRepository extends JpaRepository<ApplyIntake, Long> {
+
+    /** 접수 순서(= applyId 순)대로 대기 건 조회 */
+    List<ApplyIntake> findByStatusOrderByApplyIdAsc(ApplyIntakeStatus status, Pageable pageable);
+
+    long countByStatus(ApplyIntakeStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ApplyIntake i SET i.status = :status, i.failureReason = :reason, i.processedAt = :processedAt " +
+            "WHERE i.applyId IN :applyIds")
+    int markProcessed(@Param("applyIds") List<Long> applyIds, @Param("status") ApplyIntakeStatus status,
+                      @Param("reason") String reason, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM ApplyIntake i WHERE i.status <> :pending AND i.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("pending") ApplyIntakeStatus pending, @Param("cutoff") LocalDateTime cutoff);
+}
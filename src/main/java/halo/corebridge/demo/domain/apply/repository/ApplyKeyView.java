@@ -0,0 +1,11 @@
+package halo.corebridge.demo.domain.apply.repository;
+
+/**
+ * 중복 지원 판별용 (jobpostingId, userId) 프로젝션
+ */
+public interface ApplyKeyView {
+
+    Long getJobpostingId();
+
+    Long getUserId();
+}
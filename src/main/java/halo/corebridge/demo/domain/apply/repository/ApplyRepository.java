@@ -1,15 +1,24 @@
 package halo.corebridge.demo.domain.apply.repository;
 
 import halo.corebridge.demo.domain.apply.entity.Apply;
+import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ApplyRepository extends JpaRepository<Apply, Long> {
 
+    String DETAIL_SELECT = "SELECT a.applyId AS applyId, a.jobpostingId AS jobpostingId, a.userId AS userId, " +
+            "a.resumeId AS resumeId, a.coverLetter AS coverLetter, a.memo AS memo, a.createdAt AS appliedAt, " +
+            "p.processId AS processId, p.currentStep AS currentStep, p.previousStep AS previousStep, " +
+            "p.stepChangedAt AS stepChangedAt " +
+            "FROM Apply a JOIN RecruitmentProcess p ON p.applyId = a.applyId ";
+
     boolean existsByJobpostingIdAndUserId(Long jobpostingId, Long userId);
 
     List<Apply> findByJobpostingIdOrderByCreatedAtDesc(Long jobpostingId);
@@ -22,6 +31,29 @@ public interface ApplyRepository extends JpaRepository<Apply, Long> {
 
     Optional<Apply> findByJobpostingIdAndUserId(Long jobpostingId, Long userId);
 
+    /** 후보 (공고, 사용자) 조합 중 이미 지원된 것 (intake batch 중복 걸러내기) */
+    @Query("SELECT a.jobpostingId AS jobpostingId, a.userId AS userId FROM Apply a " +
+            "WHERE a.jobpostingId IN :jobpostingIds AND a.userId IN :userIds")
+    List<ApplyKeyView> findKeys(@Param("jobpostingIds") Collection<Long> jobpostingIds,
+                                @Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT COUNT(a) FROM Apply a WHERE a.jobpostingId IN :jobpostingIds")
     Long countByJobpostingIdIn(@Param("jobpostingIds") List<Long> jobpostingIds);
+
+    // 지원 + 프로세스 조인 조회 (목록 N+1 제거)
+    @Query(DETAIL_SELECT + "WHERE a.userId = :userId ORDER BY a.createdAt DESC")
+    List<ApplyDetailView> findDetailsByUserId(@Param("userId") Long userId);
+
+    @Query(DETAIL_SELECT + "WHERE a.jobpostingId = :jobpostingId ORDER BY a.createdAt DESC")
+    List<ApplyDetailView> findDetailsByJobpostingId(@Param("jobpostingId") Long jobpostingId);
+
+    // keyset: applyId(Snowflake) 내림차순으로 커서 이후만 조회
+    @Query(DETAIL_SELECT + "WHERE a.jobpostingId = :jobpostingId AND a.applyId < :cursor ORDER BY a.applyId DESC")
+    List<ApplyDetailView> findDetailsByJobpostingIdBefore(@Param("jobpostingId") Long jobpostingId,
+                                                         @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(DETAIL_SELECT + "WHERE p.jobpostingId = :jobpostingId AND p.currentStep = :step " +
+            "ORDER BY p.stepChangedAt DESC")
+    List<ApplyDetailView> findDetailsByJobpostingIdAndStep(@Param("jobpostingId") Long jobpostingId,
+                                                          @Param("step") ProcessStep step);
 }
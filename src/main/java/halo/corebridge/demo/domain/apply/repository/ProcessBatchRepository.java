@@ -0,0 +1,139 @@
+package halo.corebridge.demo.domain.apply.repository;
+
+import halo.corebridge.demo.domain.apply.entity.ApplyIntake;
+import halo.corebridge.demo.domain.apply.entity.ProcessHistory;
+import halo.corebridge.demo.domain.apply.entity.RecruitmentProcess;
+import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 상태 전이 / intake 반영용 JDBC batch 쓰기
+ *
+ * 호출 측 트랜잭션(JPA)의 커넥션을 그대로 사용하므로 같은 트랜잭션 안에서 커밋/롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessBatchRepository {
+
+    private static final String UPDATE_STEP_SQL = "UPDATE recruitment_process " +
+            "SET previous_step = ?, current_step = ?, step_changed_at = ?, updated_at = ?, version = version + 1 " +
+            "WHERE process_id = ? AND current_step = ?";
+
+    private static final String INSERT_PROCESS_SQL = "INSERT INTO recruitment_process " +
+            "(process_id, apply_id, jobposting_id, user_id, current_step, previous_step, " +
+            "step_changed_at, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, NULL, ?, ?, ?, 0)";
+
+    private static final String INSERT_APPLY_SQL = "INSERT INTO apply " +
+            "(apply_id, jobposting_id, user_id, resume_id, cover_letter, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO process_history " +
+            "(history_id, process_id, apply_id, from_step, to_step, changed_by, reason, note, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 단계가 읽은 시점 그대로인 행만 toStep으로 변경
+     *
+     * @return 프로세스별 변경 행 수 (0이면 그 사이 다른 요청이 상태를 바꾼 것)
+     */
+    public int[] updateSteps(List<RecruitmentProcess> processes, ProcessStep toStep, LocalDateTime changedAt) {
+        Timestamp ts = Timestamp.valueOf(changedAt);
+        return jdbcTemplate.batchUpdate(UPDATE_STEP_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RecruitmentProcess p = processes.get(i);
+                ps.setString(1, p.getCurrentStep().name());
+                ps.setString(2, toStep.name());
+                ps.setTimestamp(3, ts);
+                ps.setTimestamp(4, ts);
+                ps.setLong(5, p.getProcessId());
+                ps.setString(6, p.getCurrentStep().name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return processes.size();
+            }
+        });
+    }
+
+    /** intake 반영용: 접수 건을 Apply 행으로 insert (applyId는 접수 때 발급한 값) */
+    public void insertApplies(List<ApplyIntake> intakes, LocalDateTime createdAt) {
+        Timestamp ts = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_APPLY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ApplyIntake intake = intakes.get(i);
+                ps.setLong(1, intake.getApplyId());
+                ps.setLong(2, intake.getJobpostingId());
+                ps.setLong(3, intake.getUserId());
+                ps.setObject(4, intake.getResumeId());
+                ps.setString(5, intake.getCoverLetter());
+                ps.setTimestamp(6, ts);
+                ps.setTimestamp(7, ts);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return intakes.size();
+            }
+        });
+    }
+
+    public void insertProcesses(List<RecruitmentProcess> processes) {
+        jdbcTemplate.batchUpdate(INSERT_PROCESS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                RecruitmentProcess p = processes.get(i);
+                Timestamp createdAt = Timestamp.valueOf(p.getCreatedAt());
+                ps.setLong(1, p.getProcessId());
+                ps.setLong(2, p.getApplyId());
+                ps.setLong(3, p.getJobpostingId());
+                ps.setLong(4, p.getUserId());
+                ps.setString(5, p.getCurrentStep().name());
+                ps.setTimestamp(6, Timestamp.valueOf(p.getStepChangedAt()));
+                ps.setTimestamp(7, createdAt);
+                ps.setTimestamp(8, createdAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return processes.size();
+            }
+        });
+    }
+
+    public void insertHistories(List<ProcessHistory> histories) {
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProcessHistory h = histories.get(i);
+                ps.setLong(1, h.getHistoryId());
+                ps.setLong(2, h.getProcessId());
+                ps.setLong(3, h.getApplyId());
+                ps.setString(4, h.getFromStep() != null ? h.getFromStep().name() : null);
+                ps.setString(5, h.getToStep().name());
+                ps.setObject(6, h.getChangedBy());
+                ps.setString(7, h.getReason());
+                ps.setString(8, h.getNote());
+                ps.setTimestamp(9, Timestamp.valueOf(h.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return histories.size();
+            }
+        });
+    }
+}
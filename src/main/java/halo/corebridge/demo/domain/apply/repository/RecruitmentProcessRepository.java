@@ -2,6 +2,7 @@ package halo.corebridge.demo.domain.apply.repository;
 
 import halo.corebridge.demo.domain.apply.entity.RecruitmentProcess;
 import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,27 +23,28 @@ public interface RecruitmentProcessRepository extends JpaRepository<RecruitmentP
 
     List<RecruitmentProcess> findByUserIdOrderByCreatedAtDesc(Long userId);
 
-    Long countByUserId(Long userId);
-
-    List<RecruitmentProcess> findByCurrentStepOrderByStepChangedAtAsc(ProcessStep step);
+    // keyset: processId(Snowflake) 내림차순으로 커서 이후만 조회
+    List<RecruitmentProcess> findByJobpostingIdAndProcessIdLessThanOrderByProcessIdDesc(
+            Long jobpostingId, Long cursor, Pageable pageable);
 
-    Long countByUserIdAndCurrentStep(Long userId, ProcessStep step);
+    List<RecruitmentProcess> findByUserIdAndProcessIdLessThanOrderByProcessIdDesc(
+            Long userId, Long cursor, Pageable pageable);
 
-    @Query("SELECT COUNT(p) FROM RecruitmentProcess p WHERE p.userId = :userId AND p.currentStep IN :steps")
-    Long countByUserIdAndCurrentStepIn(@Param("userId") Long userId, @Param("steps") List<ProcessStep> steps);
-
-    Long countByJobpostingIdAndCurrentStep(Long jobpostingId, ProcessStep step);
+    Long countByUserId(Long userId);
 
-    @Query("SELECT COUNT(p) FROM RecruitmentProcess p WHERE p.jobpostingId = :jobpostingId AND p.currentStep IN :steps")
-    Long countByJobpostingIdAndCurrentStepIn(@Param("jobpostingId") Long jobpostingId, @Param("steps") List<ProcessStep> steps);
+    List<RecruitmentProcess> findByCurrentStepOrderByStepChangedAtAsc(ProcessStep step);
 
-    // 다건 공고 통합 통계
-    @Query("SELECT COUNT(p) FROM RecruitmentProcess p WHERE p.jobpostingId IN :ids")
-    Long countByJobpostingIdIn(@Param("ids") List<Long> ids);
+    // 통계: currentStep별 한 번의 GROUP BY
+    @Query("SELECT p.currentStep AS step, COUNT(p) AS count FROM RecruitmentProcess p " +
+            "WHERE p.userId = :userId GROUP BY p.currentStep")
+    List<StepCountView> countByStepForUser(@Param("userId") Long userId);
 
-    @Query("SELECT COUNT(p) FROM RecruitmentProcess p WHERE p.jobpostingId IN :ids AND p.currentStep = :step")
-    Long countByJobpostingIdInAndCurrentStep(@Param("ids") List<Long> ids, @Param("step") ProcessStep step);
+    @Query("SELECT p.currentStep AS step, COUNT(p) AS count FROM RecruitmentProcess p " +
+            "WHERE p.jobpostingId = :jobpostingId GROUP BY p.currentStep")
+    List<StepCountView> countByStepForJobposting(@Param("jobpostingId") Long jobpostingId);
 
-    @Query("SELECT COUNT(p) FROM RecruitmentProcess p WHERE p.jobpostingId IN :ids AND p.currentStep IN :steps")
-    Long countByJobpostingIdInAndCurrentStepIn(@Param("ids") List<Long> ids, @Param("steps") List<ProcessStep> steps);
+    // 다건 공고 공고별 분포
+    @Query("SELECT p.jobpostingId AS jobpostingId, p.currentStep AS step, COUNT(p) AS count " +
+            "FROM RecruitmentProcess p WHERE p.jobpostingId IN :ids GROUP BY p.jobpostingId, p.currentStep")
+    List<StepCountView> countByJobpostingAndStep(@Param("ids") List<Long> ids);
 }
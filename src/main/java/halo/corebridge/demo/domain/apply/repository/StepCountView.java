@@ -0,0 +1,17 @@
+package halo.corebridge.demo.domain.apply.repository;
+
+import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+
+/**
+ * currentStep별 GROUP BY 집계 결과
+ *
+ * jobpostingId는 공고별로 묶은 쿼리에서만 채워집니다.
+ */
+public interface StepCountView {
+
+    Long getJobpostingId();
+
+    ProcessStep getStep();
+
+    Long getCount();
+}
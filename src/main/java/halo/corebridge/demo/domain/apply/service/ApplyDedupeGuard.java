@@ -0,0 +1,82 @@
+package halo.corebridge.demo.domain.apply.service;
+
+import halo.corebridge.demo.common.transaction.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 중복 지원(더블 클릭) 1차 차단
+ *
+ * 같은 (userId, jobpostingId) 지원이 처리 중이거나 방금 커밋됐으면 DB까지 가지 않고 거절합니다.
+ * 최종 판단은 apply 테이블의 unique 제약이며, 이 가드는 그 앞에서 불필요한 insert 시도를 줄이는 용도입니다.
+ */
+@Component
+public class ApplyDedupeGuard {
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    /** 최근 커밋된 지원: 키 → 만료 시각(ms) */
+    private final Map<String, Long> recent = new ConcurrentHashMap<>();
+    private final long recentTtlMs;
+    private final int maxRecent;
+
+    private final Counter rejectedCounter;
+
+    public ApplyDedupeGuard(@Value("${apply.dedupe.recent-ttl-ms:30000}") long recentTtlMs,
+                            @Value("${apply.dedupe.max-recent:10000}") int maxRecent,
+                            MeterRegistry meterRegistry) {
+        this.recentTtlMs = recentTtlMs;
+        this.maxRecent = maxRecent;
+        this.rejectedCounter = Counter.builder("apply.dedupe.rejected")
+                .description("DB 조회 없이 거절한 중복 지원 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션 동안 키를 점유합니다. 이미 처리 중이거나 방금 지원한 키면 false.
+     * 점유는 트랜잭션이 끝나면 풀리고, 커밋된 경우 recentTtlMs 동안 기억합니다.
+     */
+    public boolean tryAcquire(Long userId, Long jobpostingId) {
+        String key = key(userId, jobpostingId);
+        Long expiresAt = recent.get(key);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                rejectedCounter.increment();
+                return false;
+            }
+            recent.remove(key, expiresAt);
+        }
+        if (!inFlight.add(key)) {
+            rejectedCounter.increment();
+            return false;
+        }
+        AfterCommit.run(() -> remember(key));
+        AfterCommit.runAfterCompletion(() -> inFlight.remove(key));
+        return true;
+    }
+
+    /** 지원 취소 후 바로 다시 지원할 수 있도록 기억을 지움 */
+    public void forget(Long userId, Long jobpostingId) {
+        recent.remove(key(userId, jobpostingId));
+    }
+
+    private void remember(String key) {
+        long now = System.currentTimeMillis();
+        if (recent.size() >= maxRecent) {
+            recent.values().removeIf(expiresAt -> expiresAt <= now);
+            if (recent.size() >= maxRecent) {
+                return;
+            }
+        }
+        recent.put(key, now + recentTtlMs);
+    }
+
+    private static String key(Long userId, Long jobpostingId) {
+        return userId + ":" + jobpostingId;
+    }
+}
@@ -0,0 +1,25 @@
+package halo.corebridge.demo.domain.apply.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "apply.intake")
+public class ApplyIntakeProperties {
+
+    /** false면 intake 요청도 즉시 동기 지원으로 처리 */
+    private boolean enabled = false;
+
+    /** 반영 대기 건수 상한 (넘으면 APPLY_INTAKE_BUSY로 거절) */
+    private int maxPending = 10000;
+
+    /** 한 번에 반영할 최대 건수 */
+    private int batchSize = 200;
+
+    /** 처리 완료된 접수 기록 보관 기간 (ms, 상태 조회용) */
+    private long retentionMs = 86400000;
+}
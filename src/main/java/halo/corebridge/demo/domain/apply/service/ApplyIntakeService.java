@@ -0,0 +1,269 @@
+package halo.corebridge.demo.domain.apply.service;
+
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
+import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.common.transaction.AfterCommit;
+import halo.corebridge.demo.domain.apply.dto.ApplyDto;
+import halo.corebridge.demo.domain.apply.entity.ApplyIntake;
+import halo.corebridge.demo.domain.apply.entity.ProcessHistory;
+import halo.corebridge.demo.domain.apply.entity.RecruitmentProcess;
+import halo.corebridge.demo.domain.apply.enums.ApplyIntakeStatus;
+import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import halo.corebridge.demo.domain.apply.repository.ApplyIntakeRepository;
+import halo.corebridge.demo.domain.apply.repository.ApplyKeyView;
+import halo.corebridge.demo.domain.apply.repository.ApplyRepository;
+import halo.corebridge.demo.domain.apply.repository.ProcessBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지원 intake 모드 (채용 이벤트 등 지원 폭주 대비)
+ *
+ * 접수: apply_intake 행 하나만 insert 하고 미리 발급한 applyId로 바로 응답합니다.
+ * 반영: materializer가 대기 건을 모아 Apply / RecruitmentProcess / ProcessHistory를
+ *       JDBC batch insert 하고 접수 상태를 ACCEPTED / REJECTED로 바꿉니다.
+ *
+ * 대기 건수가 maxPending을 넘으면 새 접수를 APPLY_INTAKE_BUSY로 거절합니다 (backpressure).
+ * 반영은 단일 인스턴스 기준입니다 (여러 인스턴스면 대기 건 선점 로직이 필요).
+ */
+@Slf4j
+@Service
+public class ApplyIntakeService {
+
+    private static final String DUPLICATE_REASON = BaseResponseStatus.ALREADY_APPLIED.getMessage();
+    private static final String FAILURE_REASON = "지원 정보를 저장하지 못했습니다. 공고가 삭제됐거나 입력값이 올바르지 않습니다.";
+
+    private final Snowflake snowflake;
+    private final ApplyIntakeRepository intakeRepository;
+    private final ApplyRepository applyRepository;
+    private final ProcessBatchRepository batchRepository;
+    private final ApplyService applyService;
+    private final ApplyDedupeGuard dedupeGuard;
+    private final ProcessStatsCounter statsCounter;
+    private final ApplyIntakeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 아직 반영되지 않은 접수 건수 (기동 시 DB 값으로 초기화) */
+    private final AtomicLong pending = new AtomicLong();
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Counter busyCounter;
+
+    public ApplyIntakeService(Snowflake snowflake, ApplyIntakeRepository intakeRepository,
+                              ApplyRepository applyRepository, ProcessBatchRepository batchRepository,
+                              ApplyService applyService, ApplyDedupeGuard dedupeGuard,
+                              ProcessStatsCounter statsCounter, ApplyIntakeProperties properties,
+                              PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.snowflake = snowflake;
+        this.intakeRepository = intakeRepository;
+        this.applyRepository = applyRepository;
+        this.batchRepository = batchRepository;
+        this.applyService = applyService;
+        this.dedupeGuard = dedupeGuard;
+        this.statsCounter = statsCounter;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("apply.intake.pending", pending, AtomicLong::get)
+                .description("반영 대기 중인 지원 접수 수")
+                .register(meterRegistry);
+        this.acceptedCounter = Counter.builder("apply.intake.processed").tag("result", "accepted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("apply.intake.processed").tag("result", "rejected")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("apply.intake.processed").tag("result", "failed")
+                .register(meterRegistry);
+        this.busyCounter = Counter.builder("apply.intake.busy")
+                .description("대기열이 가득 차 거절한 접수 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initPendingCount() {
+        pending.set(intakeRepository.countByStatus(ApplyIntakeStatus.PENDING));
+    }
+
+    // ============================================
+    // 접수
+    // ============================================
+
+    /**
+     * 지원 접수 (intake 모드가 꺼져 있으면 즉시 지원 처리)
+     */
+    @Transactional
+    public ApplyDto.IntakeResponse submit(ApplyDto.CreateRequest request) {
+        if (!properties.isEnabled()) {
+            ApplyDto.ApplyDetailResponse applied = applyService.apply(request);
+            return ApplyDto.IntakeResponse.accepted(applied.getApplyId(), applied.getJobpostingId(),
+                    applied.getUserId(), applied.getAppliedAt());
+        }
+        if (pending.get() >= properties.getMaxPending()) {
+            busyCounter.increment();
+            throw new BaseException(BaseResponseStatus.APPLY_INTAKE_BUSY);
+        }
+        if (!dedupeGuard.tryAcquire(request.getUserId(), request.getJobpostingId())) {
+            throw new BaseException(BaseResponseStatus.ALREADY_APPLIED);
+        }
+
+        ApplyIntake intake = intakeRepository.save(ApplyIntake.create(snowflake.nextId(),
+                request.getJobpostingId(), request.getUserId(), request.getResumeId(), request.getCoverLetter()));
+        AfterCommit.run(pending::incrementAndGet);
+        return ApplyDto.IntakeResponse.from(intake);
+    }
+
+    /**
+     * 접수 상태 조회 (기록이 정리된 뒤에는 Apply 존재 여부로 판단)
+     */
+    @Transactional(readOnly = true)
+    public ApplyDto.IntakeResponse getStatus(Long applyId) {
+        return intakeRepository.findById(applyId)
+                .map(ApplyDto.IntakeResponse::from)
+                .orElseGet(() -> applyRepository.findById(applyId)
+                        .map(apply -> ApplyDto.IntakeResponse.accepted(apply.getApplyId(),
+                                apply.getJobpostingId(), apply.getUserId(), apply.getCreatedAt()))
+                        .orElseThrow(() -> new BaseException(BaseResponseStatus.APPLICATION_NOT_FOUND)));
+    }
+
+    // ============================================
+    // 반영 (materializer)
+    // ============================================
+
+    /** 대기 건이 남아 있는 동안 batch 단위로 반복 반영 */
+    @Scheduled(fixedDelayString = "${apply.intake.poll-interval-ms:200}")
+    public void drain() {
+        if (!properties.isEnabled() && pending.get() == 0) {
+            return;
+        }
+        while (true) {
+            List<ApplyIntake> batch = intakeRepository.findByStatusOrderByApplyIdAsc(
+                    ApplyIntakeStatus.PENDING, PageRequest.of(0, properties.getBatchSize()));
+            if (batch.isEmpty()) {
+                return;
+            }
+            materialize(batch);
+            if (batch.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${apply.intake.purge-interval-ms:3600000}")
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(properties.getRetentionMs() * 1_000_000);
+        Integer deleted = transactionTemplate.execute(status ->
+                intakeRepository.deleteProcessedBefore(ApplyIntakeStatus.PENDING, cutoff));
+        if (deleted != null && deleted > 0) {
+            log.debug("처리 완료된 지원 접수 기록 정리: {}건", deleted);
+        }
+    }
+
+    /**
+     * batch 하나를 한 트랜잭션으로 반영.
+     * 제약 위반이 나면 건별로 나누어 다시 반영하고, 그래도 실패한 건은
+     * 중복 지원(unique 제약)이면 REJECTED, 그 밖의 제약 위반(삭제된 공고 등)이면 FAILED로 남깁니다.
+     */
+    private void materialize(List<ApplyIntake> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() > 1) {
+                log.debug("지원 접수 batch 반영 충돌, 건별 재시도: size={}", batch.size());
+                batch.forEach(intake -> materialize(List.of(intake)));
+                return;
+            }
+            ApplyIntake intake = batch.get(0);
+            boolean duplicate = ApplyService.isDuplicateApply(e);
+            if (!duplicate) {
+                log.warn("지원 접수 반영 실패: applyId={}, error={}",
+                        intake.getApplyId(), e.getMostSpecificCause().getMessage());
+            }
+            transactionTemplate.executeWithoutResult(status -> intakeRepository.markProcessed(
+                    List.of(intake.getApplyId()),
+                    duplicate ? ApplyIntakeStatus.REJECTED : ApplyIntakeStatus.FAILED,
+                    duplicate ? DUPLICATE_REASON : FAILURE_REASON, LocalDateTime.now()));
+            pending.decrementAndGet();
+            (duplicate ? rejectedCounter : failedCounter).increment();
+        }
+    }
+
+    private void write(List<ApplyIntake> batch) {
+        Set<String> taken = new HashSet<>();
+        Set<Long> jobpostingIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (ApplyIntake intake : batch) {
+            jobpostingIds.add(intake.getJobpostingId());
+            userIds.add(intake.getUserId());
+        }
+        for (ApplyKeyView key : applyRepository.findKeys(jobpostingIds, userIds)) {
+            taken.add(key(key.getJobpostingId(), key.getUserId()));
+        }
+
+        // 이미 지원했거나 같은 batch 안에서 앞선 접수가 있으면 거절
+        List<ApplyIntake> accepted = new ArrayList<>();
+        List<Long> rejectedIds = new ArrayList<>();
+        for (ApplyIntake intake : batch) {
+            if (taken.add(key(intake.getJobpostingId(), intake.getUserId()))) {
+                accepted.add(intake);
+            } else {
+                rejectedIds.add(intake.getApplyId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!accepted.isEmpty()) {
+            long[] ids = snowflake.nextIds(accepted.size() * 2);
+            List<RecruitmentProcess> processes = new ArrayList<>(accepted.size());
+            List<ProcessHistory> histories = new ArrayList<>(accepted.size());
+            List<Long> acceptedIds = new ArrayList<>(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                ApplyIntake intake = accepted.get(i);
+                RecruitmentProcess process = RecruitmentProcess.create(
+                        ids[2 * i], intake.getApplyId(), intake.getJobpostingId(), intake.getUserId());
+                processes.add(process);
+                histories.add(ProcessHistory.create(ids[2 * i + 1], process.getProcessId(), intake.getApplyId(),
+                        null, ProcessStep.APPLIED, null, "지원 완료", null));
+                acceptedIds.add(intake.getApplyId());
+                statsCounter.onCreated(intake.getJobpostingId(), intake.getUserId(), ProcessStep.APPLIED);
+            }
+            batchRepository.insertApplies(accepted, now);
+            batchRepository.insertProcesses(processes);
+            batchRepository.insertHistories(histories);
+            intakeRepository.markProcessed(acceptedIds, ApplyIntakeStatus.ACCEPTED, null, now);
+        }
+        if (!rejectedIds.isEmpty()) {
+            intakeRepository.markProcessed(rejectedIds, ApplyIntakeStatus.REJECTED, DUPLICATE_REASON, now);
+        }
+
+        AfterCommit.run(() -> {
+            pending.addAndGet(-batch.size());
+            acceptedCounter.increment(accepted.size());
+            rejectedCounter.increment(rejectedIds.size());
+            log.debug("지원 접수 반영: accepted={}, rejected={}", accepted.size(), rejectedIds.size());
+        });
+    }
+
+    private static String key(Long jobpostingId, Long userId) {
+        return jobpostingId + ":" + userId;
+    }
+}
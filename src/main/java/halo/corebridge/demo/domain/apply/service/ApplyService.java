@@ -1,16 +1,22 @@
 package halo.corebridge.demo.domain.apply.service;
 
 import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.pagination.KeysetCursor;
 import halo.corebridge.demo.common.response.BaseResponseStatus;
 import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.common.transaction.AfterCommit;
 import halo.corebridge.demo.domain.apply.dto.ApplyDto;
 import halo.corebridge.demo.domain.apply.dto.ProcessDto;
 import halo.corebridge.demo.domain.apply.entity.Apply;
 import halo.corebridge.demo.domain.apply.entity.RecruitmentProcess;
 import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import halo.corebridge.demo.domain.apply.repository.ApplyDetailView;
 import halo.corebridge.demo.domain.apply.repository.ApplyRepository;
 import halo.corebridge.demo.domain.apply.repository.RecruitmentProcessRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,17 +30,28 @@ public class ApplyService {
     private final ApplyRepository applyRepository;
     private final RecruitmentProcessRepository processRepository;
     private final ProcessService processService;
+    private final ProcessStatsCounter statsCounter;
+    private final ApplyDedupeGuard dedupeGuard;
 
+    /**
+     * 지원 (중복 여부는 unique 제약으로 판단하므로 정상 경로는 insert만 수행)
+     */
     @Transactional
     public ApplyDto.ApplyDetailResponse apply(ApplyDto.CreateRequest request) {
-        if (applyRepository.existsByJobpostingIdAndUserId(
-                request.getJobpostingId(), request.getUserId())) {
+        if (!dedupeGuard.tryAcquire(request.getUserId(), request.getJobpostingId())) {
             throw new BaseException(BaseResponseStatus.ALREADY_APPLIED);
         }
 
         Apply apply = Apply.create(snowflake.nextId(), request.getJobpostingId(),
                 request.getUserId(), request.getResumeId(), request.getCoverLetter());
-        applyRepository.save(apply);
+        try {
+            applyRepository.saveAndFlush(apply);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateApply(e)) {
+                throw new BaseException(BaseResponseStatus.ALREADY_APPLIED);
+            }
+            throw e;
+        }
 
         RecruitmentProcess process = processService.createProcess(
                 apply.getApplyId(), apply.getJobpostingId(), apply.getUserId());
@@ -57,16 +74,15 @@ public class ApplyService {
         }
 
         processRepository.delete(process);
+        statsCounter.onRemoved(process.getJobpostingId(), process.getUserId(), process.getCurrentStep());
         applyRepository.delete(apply);
+        AfterCommit.run(() -> dedupeGuard.forget(userId, apply.getJobpostingId()));
     }
 
     @Transactional(readOnly = true)
     public ApplyDto.ApplyPageResponse getMyApplies(Long userId) {
-        List<Apply> applies = applyRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        List<ApplyDto.ApplyDetailResponse> responses = applies.stream()
-                .map(apply -> processRepository.findByApplyId(apply.getApplyId())
-                        .map(p -> ApplyDto.ApplyDetailResponse.from(apply, p)).orElse(null))
-                .filter(r -> r != null).toList();
+        List<ApplyDto.ApplyDetailResponse> responses = applyRepository.findDetailsByUserId(userId).stream()
+                .map(ApplyDto.ApplyDetailResponse::from).toList();
         return ApplyDto.ApplyPageResponse.of(responses, applyRepository.countByUserId(userId));
     }
 
@@ -81,22 +97,33 @@ public class ApplyService {
 
     @Transactional(readOnly = true)
     public ApplyDto.ApplyPageResponse getAppliesByJobposting(Long jobpostingId) {
-        List<Apply> applies = applyRepository.findByJobpostingIdOrderByCreatedAtDesc(jobpostingId);
-        List<ApplyDto.ApplyDetailResponse> responses = applies.stream()
-                .map(apply -> processRepository.findByApplyId(apply.getApplyId())
-                        .map(p -> ApplyDto.ApplyDetailResponse.from(apply, p)).orElse(null))
-                .filter(r -> r != null).toList();
+        List<ApplyDto.ApplyDetailResponse> responses = applyRepository.findDetailsByJobpostingId(jobpostingId)
+                .stream().map(ApplyDto.ApplyDetailResponse::from).toList();
         return ApplyDto.ApplyPageResponse.of(responses, applyRepository.countByJobpostingId(jobpostingId));
     }
 
+    /** 커서 기반 지원자 목록 (size+1건을 읽어 다음 페이지 여부 판단) */
+    @Transactional(readOnly = true)
+    public ApplyDto.ApplyScrollResponse scrollAppliesByJobposting(Long jobpostingId, String cursor,
+                                                                  Integer size, boolean withTotal) {
+        int limit = KeysetCursor.size(size);
+        List<ApplyDetailView> rows = applyRepository.findDetailsByJobpostingIdBefore(
+                jobpostingId, KeysetCursor.decode(cursor), PageRequest.of(0, limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<ApplyDetailView> page = hasNext ? rows.subList(0, limit) : rows;
+        return ApplyDto.ApplyScrollResponse.builder()
+                .applies(page.stream().map(ApplyDto.ApplyDetailResponse::from).toList())
+                .nextCursor(hasNext ? KeysetCursor.encode(page.get(limit - 1).getApplyId()) : null)
+                .hasNext(hasNext)
+                .totalCount(withTotal ? applyRepository.countByJobpostingId(jobpostingId) : null)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public ApplyDto.ApplyPageResponse getAppliesByStep(Long jobpostingId, ProcessStep step) {
-        List<RecruitmentProcess> processes = processRepository
-                .findByJobpostingIdAndCurrentStepOrderByStepChangedAtDesc(jobpostingId, step);
-        List<ApplyDto.ApplyDetailResponse> responses = processes.stream()
-                .map(process -> applyRepository.findById(process.getApplyId())
-                        .map(a -> ApplyDto.ApplyDetailResponse.from(a, process)).orElse(null))
-                .filter(r -> r != null).toList();
+        List<ApplyDto.ApplyDetailResponse> responses = applyRepository
+                .findDetailsByJobpostingIdAndStep(jobpostingId, step).stream()
+                .map(ApplyDto.ApplyDetailResponse::from).toList();
         return ApplyDto.ApplyPageResponse.of(responses, (long) responses.size());
     }
 
@@ -119,4 +146,13 @@ public class ApplyService {
     public ProcessDto.CompanyStatsResponse getJobpostingStats(Long jobpostingId) {
         return processService.getJobpostingStats(jobpostingId);
     }
+
+    /** (jobpostingId, userId) unique 제약 위반인지 (FK / NOT NULL 등 다른 제약 위반은 false) */
+    static boolean isDuplicateApply(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+            return cve.getConstraintName().toLowerCase().contains(Apply.UK_JOBPOSTING_USER);
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Apply.UK_JOBPOSTING_USER);
+    }
 }
@@ -1,33 +1,74 @@
 package halo.corebridge.demo.domain.apply.service;
 
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.idempotency.IdempotencyStore;
+import halo.corebridge.demo.common.pagination.KeysetCursor;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
 import halo.corebridge.demo.common.snowflake.Snowflake;
 import halo.corebridge.demo.domain.apply.dto.ProcessDto;
 import halo.corebridge.demo.domain.apply.entity.ProcessHistory;
 import halo.corebridge.demo.domain.apply.entity.RecruitmentProcess;
 import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import halo.corebridge.demo.domain.apply.repository.ProcessBatchRepository;
 import halo.corebridge.demo.domain.apply.repository.ProcessHistoryRepository;
 import halo.corebridge.demo.domain.apply.repository.RecruitmentProcessRepository;
 import halo.corebridge.demo.domain.notification.dto.NotificationDto;
 import halo.corebridge.demo.domain.notification.enums.NotificationType;
-import halo.corebridge.demo.domain.notification.service.NotificationService;
+import halo.corebridge.demo.domain.notification.event.NotificationRequestedEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * 채용 프로세스 서비스 (State Machine)
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProcessService {
 
+    /** 낙관적 락 충돌 시 전이 최대 시도 횟수 */
+    private static final int MAX_TRANSITION_ATTEMPTS = 3;
+
+    /** 대량 전이 한 번에 처리할 최대 건수 */
+    private static final int MAX_BULK_TRANSITION = 1000;
+
+    // 통계 집계용 단계 마스크 (ProcessStep 비트마스크)
+    private static final int ALL_STEPS = ProcessStep.ALL_MASK;
+    private static final int IN_PROGRESS_STEPS = ProcessStep.IN_PROGRESS_MASK;
+    private static final int SCREENING_STEPS = ProcessStep.Category.SCREENING.mask();
+    private static final int INTERVIEW_STEPS = ProcessStep.Category.INTERVIEWING.mask();
+    private static final int PASS_STEPS = ProcessStep.Category.PASSED.mask();
+    private static final int FAIL_STEPS = ProcessStep.Category.FAILED.mask();
+
+    private static final ProcessDto.StepGraphResponse STEP_GRAPH = buildStepGraph();
+
     private final Snowflake snowflake;
     private final RecruitmentProcessRepository processRepository;
     private final ProcessHistoryRepository historyRepository;
-    private final NotificationService notificationService;
+    private final ProcessBatchRepository batchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProcessStatsCounter statsCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyStore idempotencyStore;
 
     // ============================================
     // 프로세스 생성
@@ -35,13 +76,16 @@ public class ProcessService {
 
     @Transactional
     public RecruitmentProcess createProcess(Long applyId, Long jobpostingId, Long userId) {
+        // 프로세스 + 이력 ID를 한 번에 예약
+        long[] ids = snowflake.nextIds(2);
         RecruitmentProcess process = RecruitmentProcess.create(
-                snowflake.nextId(), applyId, jobpostingId, userId);
+                ids[0], applyId, jobpostingId, userId);
         processRepository.save(process);
 
         historyRepository.save(ProcessHistory.create(
-                snowflake.nextId(), process.getProcessId(), applyId,
+                ids[1], process.getProcessId(), applyId,
                 null, ProcessStep.APPLIED, null, "지원 완료", null));
+        statsCounter.onCreated(jobpostingId, userId, ProcessStep.APPLIED);
 
         return process;
     }
@@ -50,32 +94,119 @@ public class ProcessService {
     // 상태 전이 (State Machine 핵심)
     // ============================================
 
-    @Transactional
+    /**
+     * 단일 상태 전이
+     *
+     * 동시에 같은 프로세스를 바꾸면 @Version 충돌이 나므로, 새 트랜잭션에서 다시 읽어
+     * 최대 MAX_TRANSITION_ATTEMPTS 번까지 재시도합니다 (재시도 시 전이 규칙도 다시 검증).
+     * idempotencyKey가 있으면 같은 키의 재요청은 처음 결과를 그대로 돌려줍니다.
+     */
+    public ProcessDto.ProcessResponse transition(Long processId, ProcessDto.TransitionRequest request,
+                                                 String idempotencyKey) {
+        return idempotencyStore.execute(
+                idempotencyKey == null ? null : "process-transition:" + processId + ":" + idempotencyKey,
+                fingerprint(request),
+                () -> transition(processId, request));
+    }
+
     public ProcessDto.ProcessResponse transition(Long processId, ProcessDto.TransitionRequest request) {
-        RecruitmentProcess process = processRepository.findById(processId)
-                .orElseThrow(() -> new IllegalArgumentException("프로세스를 찾을 수 없습니다: " + processId));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> doTransition(processId, request));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_TRANSITION_ATTEMPTS) {
+                    log.warn("프로세스 전이 충돌 재시도 초과: processId={}, attempts={}", processId, attempt);
+                    throw new BaseException(BaseResponseStatus.PROCESS_CONCURRENTLY_MODIFIED);
+                }
+                log.debug("프로세스 전이 충돌, 재시도: processId={}, attempt={}", processId, attempt);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(
+                        ThreadLocalRandom.current().nextLong(5, 20L * attempt)));
+            }
+        }
+    }
 
-        ProcessStep fromStep = process.getCurrentStep();
-        ProcessStep toStep = request.getNextStep();
+    public ProcessDto.ProcessResponse transitionByApplyId(Long applyId, ProcessDto.TransitionRequest request,
+                                                          String idempotencyKey) {
+        Long processId = processRepository.findByApplyId(applyId)
+                .orElseThrow(() -> new IllegalArgumentException("프로세스를 찾을 수 없습니다 (applyId): " + applyId))
+                .getProcessId();
+        return transition(processId, request, idempotencyKey);
+    }
 
-        // State Machine: 전이 규칙 검증
-        process.transition(toStep);
+    /**
+     * 대량 상태 전이
+     *
+     * 프로세스를 한 번에 조회해 항목별로 전이 규칙을 검증하고, 통과한 건만
+     * 상태 변경과 이력 저장을 JDBC batch로 수행합니다. 실패 건은 사유와 함께 결과에 담기며
+     * 나머지 전이는 그대로 커밋됩니다.
+     */
+    public ProcessDto.BulkTransitionResponse bulkTransition(ProcessDto.BulkTransitionRequest request,
+                                                           String idempotencyKey) {
+        return idempotencyStore.execute(
+                idempotencyKey == null ? null : "process-bulk-transition:" + idempotencyKey,
+                request.getNextStep() + ":" + request.getProcessIds() + ":" + request.getChangedBy(),
+                () -> transactionTemplate.execute(status -> bulkTransition(request)));
+    }
 
-        historyRepository.save(ProcessHistory.create(
-                snowflake.nextId(), processId, process.getApplyId(),
-                fromStep, toStep, request.getChangedBy(), request.getReason(), request.getNote()));
+    @Transactional
+    public ProcessDto.BulkTransitionResponse bulkTransition(ProcessDto.BulkTransitionRequest request) {
+        ProcessStep toStep = request.getNextStep();
+        if (toStep == null) {
+            throw new IllegalArgumentException("전이할 단계(nextStep)를 지정해야 합니다.");
+        }
+        List<Long> processIds = request.getProcessIds() == null ? List.of()
+                : request.getProcessIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (processIds.isEmpty()) {
+            throw new IllegalArgumentException("전이할 프로세스가 없습니다.");
+        }
+        if (processIds.size() > MAX_BULK_TRANSITION) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_TRANSITION + "건까지 전이할 수 있습니다.");
+        }
 
-        // 내부 알림 전송 (MSA에서는 Feign Client 호출이었음)
-        sendProcessNotification(process.getUserId(), toStep, process.getApplyId(), process.getJobpostingId());
+        Map<Long, RecruitmentProcess> processes = new HashMap<>();
+        processRepository.findAllById(processIds).forEach(p -> processes.put(p.getProcessId(), p));
 
-        return ProcessDto.ProcessResponse.from(process);
-    }
+        Map<Long, ProcessDto.BulkTransitionResult> results = new LinkedHashMap<>();
+        List<RecruitmentProcess> candidates = new ArrayList<>();
+        for (Long processId : processIds) {
+            RecruitmentProcess process = processes.get(processId);
+            if (process == null) {
+                results.put(processId, ProcessDto.BulkTransitionResult.fail(processId, null,
+                        "프로세스를 찾을 수 없습니다."));
+            } else if (!process.getCurrentStep().canTransitionTo(toStep)) {
+                results.put(processId, ProcessDto.BulkTransitionResult.fail(processId, process.getCurrentStep(),
+                        String.format("'%s'에서 '%s'(으)로 전이할 수 없습니다.",
+                                process.getCurrentStep().getDisplayName(), toStep.getDisplayName())));
+            } else {
+                results.put(processId, null);
+                candidates.add(process);
+            }
+        }
 
-    @Transactional
-    public ProcessDto.ProcessResponse transitionByApplyId(Long applyId, ProcessDto.TransitionRequest request) {
-        RecruitmentProcess process = processRepository.findByApplyId(applyId)
-                .orElseThrow(() -> new IllegalArgumentException("프로세스를 찾을 수 없습니다 (applyId): " + applyId));
-        return transition(process.getProcessId(), request);
+        if (!candidates.isEmpty()) {
+            // 조회 이후 다른 요청이 단계를 바꾼 행은 갱신되지 않음 (current_step 조건)
+            int[] updated = batchRepository.updateSteps(candidates, toStep, LocalDateTime.now());
+            long[] historyIds = snowflake.nextIds(candidates.size());
+            List<ProcessHistory> histories = new ArrayList<>(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                RecruitmentProcess process = candidates.get(i);
+                ProcessStep fromStep = process.getCurrentStep();
+                if (updated[i] == 0) {
+                    results.put(process.getProcessId(), ProcessDto.BulkTransitionResult.fail(
+                            process.getProcessId(), fromStep, "다른 요청에 의해 상태가 이미 변경되었습니다."));
+                    continue;
+                }
+                histories.add(ProcessHistory.create(historyIds[i], process.getProcessId(), process.getApplyId(),
+                        fromStep, toStep, request.getChangedBy(), request.getReason(), request.getNote()));
+                statsCounter.onTransition(process.getJobpostingId(), process.getUserId(), fromStep, toStep);
+                sendProcessNotification(process.getUserId(), toStep, process.getApplyId(), process.getJobpostingId());
+                results.put(process.getProcessId(),
+                        ProcessDto.BulkTransitionResult.success(process.getProcessId(), fromStep, toStep));
+            }
+            batchRepository.insertHistories(histories);
+        }
+
+        return ProcessDto.BulkTransitionResponse.of(toStep, new ArrayList<>(results.values()));
     }
 
     // ============================================
@@ -118,6 +249,28 @@ public class ProcessService {
         return ProcessDto.ProcessPageResponse.of(list, processRepository.countByUserId(userId));
     }
 
+    /** 커서 기반 공고별 프로세스 목록 */
+    @Transactional(readOnly = true)
+    public ProcessDto.ProcessScrollResponse scrollByJobposting(Long jobpostingId, String cursor,
+                                                              Integer size, boolean withTotal) {
+        int limit = KeysetCursor.size(size);
+        List<RecruitmentProcess> rows = processRepository.findByJobpostingIdAndProcessIdLessThanOrderByProcessIdDesc(
+                jobpostingId, KeysetCursor.decode(cursor), PageRequest.of(0, limit + 1));
+        return toScrollResponse(rows, limit,
+                withTotal ? processRepository.countByJobpostingId(jobpostingId) : null);
+    }
+
+    /** 커서 기반 사용자별 프로세스 목록 */
+    @Transactional(readOnly = true)
+    public ProcessDto.ProcessScrollResponse scrollByUser(Long userId, String cursor,
+                                                        Integer size, boolean withTotal) {
+        int limit = KeysetCursor.size(size);
+        List<RecruitmentProcess> rows = processRepository.findByUserIdAndProcessIdLessThanOrderByProcessIdDesc(
+                userId, KeysetCursor.decode(cursor), PageRequest.of(0, limit + 1));
+        return toScrollResponse(rows, limit,
+                withTotal ? processRepository.countByUserId(userId) : null);
+    }
+
     @Transactional(readOnly = true)
     public List<ProcessDto.HistoryResponse> getHistory(Long processId) {
         return historyRepository.findByProcessIdOrderByCreatedAtDesc(processId).stream()
@@ -135,40 +288,25 @@ public class ProcessService {
                 .map(ProcessDto.StepInfoResponse::from).toList();
     }
 
+    /** 단계 정의는 고정이므로 그래프는 한 번만 만들어 재사용 */
+    public ProcessDto.StepGraphResponse getStepGraph() {
+        return STEP_GRAPH;
+    }
+
     // ============================================
     // 통계
     // ============================================
 
     @Transactional(readOnly = true)
     public ProcessDto.UserStatsResponse getUserStats(Long userId) {
-        Long total = processRepository.countByUserId(userId);
-        List<ProcessStep> pendingSteps = List.of(
-                ProcessStep.APPLIED, ProcessStep.DOCUMENT_REVIEW, ProcessStep.DOCUMENT_PASS,
-                ProcessStep.CODING_TEST, ProcessStep.CODING_PASS,
-                ProcessStep.INTERVIEW_1, ProcessStep.INTERVIEW_1_PASS,
-                ProcessStep.INTERVIEW_2, ProcessStep.INTERVIEW_2_PASS, ProcessStep.FINAL_REVIEW);
-        Long pending = processRepository.countByUserIdAndCurrentStepIn(userId, pendingSteps);
-        Long passed = processRepository.countByUserIdAndCurrentStep(userId, ProcessStep.FINAL_PASS);
-        List<ProcessStep> failSteps = List.of(ProcessStep.DOCUMENT_FAIL, ProcessStep.CODING_FAIL,
-                ProcessStep.INTERVIEW_1_FAIL, ProcessStep.INTERVIEW_2_FAIL, ProcessStep.FINAL_FAIL);
-        Long failed = processRepository.countByUserIdAndCurrentStepIn(userId, failSteps);
-        return ProcessDto.UserStatsResponse.of(total, pending, passed, failed);
+        Map<ProcessStep, Long> counts = statsCounter.forUser(userId);
+        return ProcessDto.UserStatsResponse.of(sum(counts, ALL_STEPS), sum(counts, IN_PROGRESS_STEPS),
+                sum(counts, PASS_STEPS), sum(counts, FAIL_STEPS));
     }
 
     @Transactional(readOnly = true)
     public ProcessDto.CompanyStatsResponse getJobpostingStats(Long jobpostingId) {
-        Long total = processRepository.countByJobpostingId(jobpostingId);
-        Long pending = processRepository.countByJobpostingIdAndCurrentStepIn(jobpostingId,
-                List.of(ProcessStep.APPLIED, ProcessStep.DOCUMENT_REVIEW));
-        List<ProcessStep> interviewSteps = List.of(ProcessStep.DOCUMENT_PASS, ProcessStep.CODING_TEST,
-                ProcessStep.CODING_PASS, ProcessStep.INTERVIEW_1, ProcessStep.INTERVIEW_1_PASS,
-                ProcessStep.INTERVIEW_2, ProcessStep.INTERVIEW_2_PASS, ProcessStep.FINAL_REVIEW);
-        Long interviewing = processRepository.countByJobpostingIdAndCurrentStepIn(jobpostingId, interviewSteps);
-        Long passed = processRepository.countByJobpostingIdAndCurrentStep(jobpostingId, ProcessStep.FINAL_PASS);
-        List<ProcessStep> failSteps = List.of(ProcessStep.DOCUMENT_FAIL, ProcessStep.CODING_FAIL,
-                ProcessStep.INTERVIEW_1_FAIL, ProcessStep.INTERVIEW_2_FAIL, ProcessStep.FINAL_FAIL);
-        Long failed = processRepository.countByJobpostingIdAndCurrentStepIn(jobpostingId, failSteps);
-        return ProcessDto.CompanyStatsResponse.of(total, pending, interviewing, passed, failed);
+        return toCompanyStats(statsCounter.forJobposting(jobpostingId));
     }
 
     /**
@@ -179,37 +317,111 @@ public class ProcessService {
         if (jobpostingIds == null || jobpostingIds.isEmpty()) {
             return ProcessDto.CompanyStatsResponse.of(0L, 0L, 0L, 0L, 0L);
         }
-        Long total = processRepository.countByJobpostingIdIn(jobpostingIds);
-        Long pending = processRepository.countByJobpostingIdInAndCurrentStepIn(jobpostingIds,
-                List.of(ProcessStep.APPLIED, ProcessStep.DOCUMENT_REVIEW));
-        List<ProcessStep> interviewSteps = List.of(ProcessStep.DOCUMENT_PASS, ProcessStep.CODING_TEST,
-                ProcessStep.CODING_PASS, ProcessStep.INTERVIEW_1, ProcessStep.INTERVIEW_1_PASS,
-                ProcessStep.INTERVIEW_2, ProcessStep.INTERVIEW_2_PASS, ProcessStep.FINAL_REVIEW);
-        Long interviewing = processRepository.countByJobpostingIdInAndCurrentStepIn(jobpostingIds, interviewSteps);
-        Long passed = processRepository.countByJobpostingIdInAndCurrentStep(jobpostingIds, ProcessStep.FINAL_PASS);
-        List<ProcessStep> failSteps = List.of(ProcessStep.DOCUMENT_FAIL, ProcessStep.CODING_FAIL,
-                ProcessStep.INTERVIEW_1_FAIL, ProcessStep.INTERVIEW_2_FAIL, ProcessStep.FINAL_FAIL);
-        Long failed = processRepository.countByJobpostingIdInAndCurrentStepIn(jobpostingIds, failSteps);
-        return ProcessDto.CompanyStatsResponse.of(total, pending, interviewing, passed, failed);
+        Map<ProcessStep, Long> counts = new EnumMap<>(ProcessStep.class);
+        statsCounter.forJobpostings(jobpostingIds).values()
+                .forEach(c -> c.forEach((step, count) -> counts.merge(step, count, Long::sum)));
+        return toCompanyStats(counts);
+    }
+
+    /**
+     * 여러 공고의 공고별 통계 (미적재 공고만 쿼리 1회)
+     */
+    @Transactional(readOnly = true)
+    public List<ProcessDto.JobpostingStatsResponse> getStatsByJobposting(List<Long> jobpostingIds) {
+        if (jobpostingIds == null || jobpostingIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Map<ProcessStep, Long>> byJobposting = statsCounter.forJobpostings(jobpostingIds);
+        return jobpostingIds.stream().distinct()
+                .map(id -> ProcessDto.JobpostingStatsResponse.builder()
+                        .jobpostingId(id)
+                        .stats(toCompanyStats(byJobposting.get(id)))
+                        .stepCounts(byJobposting.get(id))
+                        .build())
+                .toList();
     }
 
     // ============================================
     // Private
     // ============================================
 
-    private void sendProcessNotification(Long userId, ProcessStep step, Long applyId, Long jobpostingId) {
-        try {
-            notificationService.create(NotificationDto.CreateRequest.builder()
-                    .userId(userId)
-                    .type(NotificationType.PROCESS_UPDATE)
-                    .title("채용 프로세스 업데이트")
-                    .message("지원 상태가 [" + step.getDisplayName() + "](으)로 변경되었습니다.")
-                    .link("/applies/" + applyId)
-                    .relatedId(applyId)
-                    .relatedType("APPLY")
-                    .build());
-        } catch (Exception e) {
-            // 알림 실패가 비즈니스 로직에 영향을 주지 않도록 예외 무시
+    private ProcessDto.ProcessResponse doTransition(Long processId, ProcessDto.TransitionRequest request) {
+        RecruitmentProcess process = processRepository.findById(processId)
+                .orElseThrow(() -> new IllegalArgumentException("프로세스를 찾을 수 없습니다: " + processId));
+
+        ProcessStep fromStep = process.getCurrentStep();
+        ProcessStep toStep = request.getNextStep();
+
+        // State Machine: 전이 규칙 검증
+        process.transition(toStep);
+        // 이력 insert 전에 version 검사를 끝내 충돌 시 이력이 남지 않도록 함
+        processRepository.flush();
+        statsCounter.onTransition(process.getJobpostingId(), process.getUserId(), fromStep, toStep);
+
+        historyRepository.save(ProcessHistory.create(
+                snowflake.nextId(), processId, process.getApplyId(),
+                fromStep, toStep, request.getChangedBy(), request.getReason(), request.getNote()));
+
+        // 내부 알림 전송 (MSA에서는 Feign Client 호출이었음)
+        sendProcessNotification(process.getUserId(), toStep, process.getApplyId(), process.getJobpostingId());
+
+        return ProcessDto.ProcessResponse.from(process);
+    }
+
+    private static String fingerprint(ProcessDto.TransitionRequest request) {
+        return request.getNextStep() + ":" + request.getChangedBy();
+    }
+
+    private ProcessDto.ProcessScrollResponse toScrollResponse(List<RecruitmentProcess> rows, int limit, Long total) {
+        boolean hasNext = rows.size() > limit;
+        List<RecruitmentProcess> page = hasNext ? rows.subList(0, limit) : rows;
+        return ProcessDto.ProcessScrollResponse.builder()
+                .processes(page.stream().map(ProcessDto.ProcessResponse::from).toList())
+                .nextCursor(hasNext ? KeysetCursor.encode(page.get(limit - 1).getProcessId()) : null)
+                .hasNext(hasNext)
+                .processCount(total)
+                .build();
+    }
+
+    private static ProcessDto.StepGraphResponse buildStepGraph() {
+        List<ProcessDto.StepEdgeResponse> edges = new ArrayList<>();
+        for (ProcessStep from : ProcessStep.values()) {
+            for (ProcessStep to : from.getNextSteps()) {
+                edges.add(ProcessDto.StepEdgeResponse.builder().from(from).to(to).build());
+            }
+        }
+        return ProcessDto.StepGraphResponse.builder()
+                .initialStep(ProcessStep.APPLIED)
+                .nodes(Arrays.stream(ProcessStep.values()).map(ProcessDto.StepNodeResponse::from).toList())
+                .edges(List.copyOf(edges))
+                .build();
+    }
+
+    private static long sum(Map<ProcessStep, Long> counts, int stepMask) {
+        long total = 0;
+        for (Map.Entry<ProcessStep, Long> entry : counts.entrySet()) {
+            if (entry.getKey().in(stepMask)) {
+                total += entry.getValue();
+            }
         }
+        return total;
+    }
+
+    private static ProcessDto.CompanyStatsResponse toCompanyStats(Map<ProcessStep, Long> counts) {
+        return ProcessDto.CompanyStatsResponse.of(sum(counts, ALL_STEPS), sum(counts, SCREENING_STEPS),
+                sum(counts, INTERVIEW_STEPS), sum(counts, PASS_STEPS), sum(counts, FAIL_STEPS));
+    }
+
+    private void sendProcessNotification(Long userId, ProcessStep step, Long applyId, Long jobpostingId) {
+        // 커밋 후 아웃박스가 비동기로 저장 (전이 트랜잭션은 알림 저장을 기다리지 않음)
+        eventPublisher.publishEvent(new NotificationRequestedEvent(NotificationDto.CreateRequest.builder()
+                .userId(userId)
+                .type(NotificationType.PROCESS_UPDATE)
+                .title("채용 프로세스 업데이트")
+                .message("지원 상태가 [" + step.getDisplayName() + "](으)로 변경되었습니다.")
+                .link("/applies/" + applyId)
+                .relatedId(applyId)
+                .relatedType("APPLY")
+                .build()));
     }
 }
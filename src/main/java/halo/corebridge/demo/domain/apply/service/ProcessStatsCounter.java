@@ -0,0 +1,167 @@
+package halo.corebridge.demo.domain.apply.service;
+
+import halo.corebridge.demo.common.transaction.AfterCommit;
+import halo.corebridge.demo.domain.apply.enums.ProcessStep;
+import halo.corebridge.demo.domain.apply.repository.RecruitmentProcessRepository;
+import halo.corebridge.demo.domain.apply.repository.StepCountView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공고별 / 사용자별 프로세스 단계 카운터 (인메모리 materialized stats)
+ *
+ * 처음 조회될 때 GROUP BY 한 번으로 적재하고, 이후에는 생성·전이·취소 시
+ * 커밋 후 LongAdder를 증감하여 통계 조회를 쿼리 없이 처리합니다.
+ * 적재 시점과 겹친 변경 등으로 생길 수 있는 오차는 주기적 재적재(rebuild)로 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessStatsCounter {
+
+    private static final ProcessStep[] STEPS = ProcessStep.values();
+
+    private final RecruitmentProcessRepository processRepository;
+
+    private final Map<Long, StepCounts> byJobposting = new ConcurrentHashMap<>();
+    private final Map<Long, StepCounts> byUser = new ConcurrentHashMap<>();
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    public Map<ProcessStep, Long> forJobposting(Long jobpostingId) {
+        return byJobposting.computeIfAbsent(jobpostingId,
+                id -> StepCounts.of(processRepository.countByStepForJobposting(id))).snapshot();
+    }
+
+    public Map<ProcessStep, Long> forUser(Long userId) {
+        return byUser.computeIfAbsent(userId,
+                id -> StepCounts.of(processRepository.countByStepForUser(id))).snapshot();
+    }
+
+    /** 여러 공고: 적재되지 않은 공고만 한 번의 GROUP BY로 채운 뒤 공고별 스냅샷 반환 */
+    public Map<Long, Map<ProcessStep, Long>> forJobpostings(List<Long> jobpostingIds) {
+        List<Long> missing = new ArrayList<>();
+        for (Long id : jobpostingIds) {
+            if (!byJobposting.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        Map<Long, StepCounts> loaded = new HashMap<>();
+        if (!missing.isEmpty()) {
+            for (Long id : missing) {
+                loaded.put(id, new StepCounts());
+            }
+            for (StepCountView row : processRepository.countByJobpostingAndStep(missing)) {
+                loaded.get(row.getJobpostingId()).add(row.getStep(), row.getCount());
+            }
+            loaded.forEach(byJobposting::putIfAbsent);
+        }
+
+        Map<Long, Map<ProcessStep, Long>> result = new HashMap<>();
+        for (Long id : jobpostingIds) {
+            // 그 사이 rebuild()가 비웠을 수 있으므로 get 대신 방금 읽은 값(없으면 단건 적재)으로 채움
+            StepCounts counts = byJobposting.computeIfAbsent(id, k -> {
+                StepCounts fetched = loaded.get(k);
+                return fetched != null ? fetched : StepCounts.of(processRepository.countByStepForJobposting(k));
+            });
+            result.put(id, counts.snapshot());
+        }
+        return result;
+    }
+
+    // ============================================
+    // 변경 반영 (커밋 후)
+    // ============================================
+
+    public void onCreated(Long jobpostingId, Long userId, ProcessStep step) {
+        AfterCommit.run(() -> apply(jobpostingId, userId, step, 1));
+    }
+
+    public void onTransition(Long jobpostingId, Long userId, ProcessStep from, ProcessStep to) {
+        AfterCommit.run(() -> {
+            apply(jobpostingId, userId, from, -1);
+            apply(jobpostingId, userId, to, 1);
+        });
+    }
+
+    public void onRemoved(Long jobpostingId, Long userId, ProcessStep step) {
+        AfterCommit.run(() -> apply(jobpostingId, userId, step, -1));
+    }
+
+    // ============================================
+    // 재적재
+    // ============================================
+
+    /** 전체 카운터를 비워 다음 조회 시 DB에서 다시 적재 */
+    @Scheduled(fixedDelayString = "${process.stats.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        int jobpostings = byJobposting.size();
+        int users = byUser.size();
+        byJobposting.clear();
+        byUser.clear();
+        log.debug("프로세스 통계 카운터 재적재: jobpostings={}, users={}", jobpostings, users);
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    /** 아직 적재되지 않은 키는 건너뜀 (다음 조회 때 DB에서 최신값 적재) */
+    private void apply(Long jobpostingId, Long userId, ProcessStep step, long delta) {
+        StepCounts jobposting = byJobposting.get(jobpostingId);
+        if (jobposting != null) {
+            jobposting.add(step, delta);
+        }
+        StepCounts user = byUser.get(userId);
+        if (user != null) {
+            user.add(step, delta);
+        }
+    }
+
+    /** ProcessStep.ordinal() 인덱스의 LongAdder 배열 */
+    private static final class StepCounts {
+
+        private final LongAdder[] counts = new LongAdder[STEPS.length];
+
+        private StepCounts() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        private static StepCounts of(List<StepCountView> rows) {
+            StepCounts stepCounts = new StepCounts();
+            for (StepCountView row : rows) {
+                stepCounts.add(row.getStep(), row.getCount());
+            }
+            return stepCounts;
+        }
+
+        private void add(ProcessStep step, long delta) {
+            counts[step.ordinal()].add(delta);
+        }
+
+        private Map<ProcessStep, Long> snapshot() {
+            Map<ProcessStep, Long> snapshot = new EnumMap<>(ProcessStep.class);
+            for (ProcessStep step : STEPS) {
+                long count = counts[step.ordinal()].sum();
+                if (count != 0) {
+                    snapshot.put(step, count);
+                }
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package halo.corebridge.demo.domain.comment.repository;
+
+/**
+ * 공고별 댓글 수 프로젝션
+ */
+public interface CommentCountView {
+
+    Long getJobpostingId();
+
+    Long getCommentCount();
+}
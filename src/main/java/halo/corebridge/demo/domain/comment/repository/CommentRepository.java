@@ -4,7 +4,10 @@ import halo.corebridge.demo.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -25,6 +28,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     Long countByJobpostingId(Long jobpostingId);
 
+    /**
+     * 여러 공고의 댓글 수 (GROUP BY 한 번, 댓글이 없는 공고는 결과에 없음)
+     */
+    @Query("SELECT c.jobpostingId AS jobpostingId, COUNT(c) AS commentCount FROM Comment c " +
+            "WHERE c.jobpostingId IN :jobpostingIds GROUP BY c.jobpostingId")
+    List<CommentCountView> countByJobpostingIds(@Param("jobpostingIds") Collection<Long> jobpostingIds);
+
+    /**
+     * 전체 공고의 댓글 수 (인기 순위 초기화용)
+     */
+    @Query("SELECT c.jobpostingId AS jobpostingId, COUNT(c) AS commentCount FROM Comment c GROUP BY c.jobpostingId")
+    List<CommentCountView> countGroupByJobpostingId();
+
     /**
      * 사용자별 댓글 목록
      */
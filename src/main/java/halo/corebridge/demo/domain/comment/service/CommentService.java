@@ -1,9 +1,12 @@
 package halo.corebridge.demo.domain.comment.service;
 
 import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.common.transaction.AfterCommit;
 import halo.corebridge.demo.domain.comment.dto.CommentDto;
 import halo.corebridge.demo.domain.comment.entity.Comment;
 import halo.corebridge.demo.domain.comment.repository.CommentRepository;
+import halo.corebridge.demo.domain.jobposting.service.HotJobpostingRanking;
+import halo.corebridge.demo.domain.jobposting.service.JobpostingReadModel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +21,8 @@ public class CommentService {
 
     private final Snowflake snowflake;
     private final CommentRepository commentRepository;
+    private final HotJobpostingRanking hotRanking;
+    private final JobpostingReadModel readModel;
 
     @Transactional
     public CommentDto.CommentResponse create(CommentDto.CreateRequest request, Long userId) {
@@ -26,6 +31,10 @@ public class CommentService {
                 Comment.create(snowflake.nextId(), request.getContent(),
                         parent == null ? null : parent.getCommentId(),
                         request.getJobpostingId(), userId));
+        AfterCommit.run(() -> {
+            hotRanking.onComment(comment.getJobpostingId());
+            readModel.addComments(comment.getJobpostingId(), 1);
+        });
         return CommentDto.CommentResponse.from(comment);
     }
 
@@ -79,6 +88,7 @@ public class CommentService {
 
     private void deleteRecursively(Comment comment) {
         commentRepository.delete(comment);
+        AfterCommit.run(() -> readModel.addComments(comment.getJobpostingId(), -1));
         if (!comment.isRoot()) {
             commentRepository.findById(comment.getParentCommentId())
                     .filter(Comment::getDeleted)
@@ -0,0 +1,27 @@
+package halo.corebridge.demo.domain.jobposting.controller;
+
+import halo.corebridge.demo.common.response.BaseResponse;
+import halo.corebridge.demo.domain.jobposting.service.HotJobpostingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 인기 공고 관리자 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/hot-jobpostings")
+public class HotJobpostingAdminController {
+
+    private final HotJobpostingService hotJobpostingService;
+
+    /** 현재 순위를 지정 날짜(기본 오늘)의 스냅샷으로 즉시 저장 */
+    @PostMapping("/snapshot")
+    public BaseResponse<Integer> snapshot(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return BaseResponse.success(hotJobpostingService.snapshot(date != null ? date : LocalDate.now()));
+    }
+}
@@ -0,0 +1,29 @@
+package halo.corebridge.demo.domain.jobposting.controller;
+
+import halo.corebridge.demo.common.response.BaseResponse;
+import halo.corebridge.demo.domain.jobposting.dto.HotJobpostingDto;
+import halo.corebridge.demo.domain.jobposting.service.HotJobpostingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/hot-jobpostings")
+public class HotJobpostingController {
+
+    private final HotJobpostingService hotJobpostingService;
+
+    /** 오늘의 인기 공고 (실시간, 시간 감쇠 점수 순) */
+    @GetMapping("/today")
+    public BaseResponse<List<HotJobpostingDto.HotJobpostingResponse>> getToday() {
+        return BaseResponse.success(hotJobpostingService.getToday());
+    }
+
+    /** 특정 날짜 인기 공고 (yyyyMMdd 또는 yyyy-MM-dd, 지난 날짜는 저장된 스냅샷) */
+    @GetMapping("/date/{dateStr}")
+    public BaseResponse<List<HotJobpostingDto.HotJobpostingResponse>> getByDate(@PathVariable String dateStr) {
+        return BaseResponse.success(hotJobpostingService.getByDate(dateStr));
+    }
+}
@@ -0,0 +1,50 @@
+package halo.corebridge.demo.domain.jobposting.controller;
+
+import halo.corebridge.demo.common.response.BaseResponse;
+import halo.corebridge.demo.domain.jobposting.dto.JobpostingLikeDto;
+import halo.corebridge.demo.domain.jobposting.service.JobpostingLikeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/jobposting-likes")
+public class JobpostingLikeController {
+
+    private final JobpostingLikeService jobpostingLikeService;
+
+    @GetMapping("/jobpostings/{jobpostingId}")
+    public BaseResponse<JobpostingLikeDto.LikeStatusResponse> getStatus(@AuthenticationPrincipal Long userId,
+                                                                       @PathVariable Long jobpostingId) {
+        return BaseResponse.success(jobpostingLikeService.getStatus(userId, jobpostingId));
+    }
+
+    @GetMapping("/jobpostings/{jobpostingId}/count")
+    public BaseResponse<Long> getCount(@PathVariable Long jobpostingId) {
+        return BaseResponse.success(jobpostingLikeService.getCount(jobpostingId));
+    }
+
+    /** 목록 화면용: 주어진 공고 중 내가 좋아요한 공고 ID */
+    @GetMapping("/me")
+    public BaseResponse<JobpostingLikeDto.LikedResponse> getLiked(@AuthenticationPrincipal Long userId,
+                                                                 @RequestParam List<Long> jobpostingIds) {
+        return BaseResponse.success(jobpostingLikeService.getLiked(userId, jobpostingIds));
+    }
+
+    @PostMapping("/jobpostings/{jobpostingId}")
+    public BaseResponse<Void> like(@AuthenticationPrincipal Long userId,
+                                   @PathVariable Long jobpostingId) {
+        jobpostingLikeService.like(userId, jobpostingId);
+        return BaseResponse.success();
+    }
+
+    @DeleteMapping("/jobpostings/{jobpostingId}")
+    public BaseResponse<Void> unlike(@AuthenticationPrincipal Long userId,
+                                     @PathVariable Long jobpostingId) {
+        jobpostingLikeService.unlike(userId, jobpostingId);
+        return BaseResponse.success();
+    }
+}
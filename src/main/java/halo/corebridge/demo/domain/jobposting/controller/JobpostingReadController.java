@@ -0,0 +1,30 @@
+package halo.corebridge.demo.domain.jobposting.controller;
+
+import halo.corebridge.demo.common.response.BaseResponse;
+import halo.corebridge.demo.domain.jobposting.dto.JobpostingReadDto;
+import halo.corebridge.demo.domain.jobposting.service.JobpostingReadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/jobposting-read")
+public class JobpostingReadController {
+
+    private final JobpostingReadService jobpostingReadService;
+
+    /** 단일 공고 통합 조회 (공고 + 닉네임 + 조회수/좋아요/댓글 수) */
+    @GetMapping("/{jobpostingId}")
+    public BaseResponse<JobpostingReadDto.ReadResponse> read(@PathVariable Long jobpostingId) {
+        return BaseResponse.success(jobpostingReadService.read(jobpostingId));
+    }
+
+    /** 공고 목록 통합 조회 (page는 1부터) */
+    @GetMapping
+    public BaseResponse<JobpostingReadDto.ReadPageResponse> readAll(
+            @RequestParam(defaultValue = "1") Long boardId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int pageSize) {
+        return BaseResponse.success(jobpostingReadService.readAll(boardId, page, pageSize));
+    }
+}
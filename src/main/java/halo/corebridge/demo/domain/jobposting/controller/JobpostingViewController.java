@@ -0,0 +1,29 @@
+package halo.corebridge.demo.domain.jobposting.controller;
+
+import halo.corebridge.demo.common.response.BaseResponse;
+import halo.corebridge.demo.domain.jobposting.service.JobpostingViewService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/jobposting-views/jobpostings")
+public class JobpostingViewController {
+
+    private final JobpostingViewService jobpostingViewService;
+
+    /** 조회수 증가 (같은 사용자/IP의 반복 조회는 일정 시간 동안 한 번만 집계) */
+    @PostMapping("/{jobpostingId}")
+    public BaseResponse<Long> increase(@AuthenticationPrincipal Long userId,
+                                       @PathVariable Long jobpostingId,
+                                       HttpServletRequest request) {
+        return BaseResponse.success(jobpostingViewService.increase(jobpostingId, userId, request.getRemoteAddr()));
+    }
+
+    @GetMapping("/{jobpostingId}/count")
+    public BaseResponse<Long> getCount(@PathVariable Long jobpostingId) {
+        return BaseResponse.success(jobpostingViewService.getCount(jobpostingId));
+    }
+}
@@ -0,0 +1,28 @@
+package halo.corebridge.demo.domain.jobposting.dto;
+
+import halo.corebridge.demo.domain.jobposting.entity.HotJobpostingSnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+public class HotJobpostingDto {
+
+    @Getter @Builder
+    public static class HotJobpostingResponse {
+        private Long jobpostingId;
+        private String title;
+        private Long boardId;
+        private long likeCount;
+        private long commentCount;
+        private long viewCount;
+        private double score;
+
+        public static HotJobpostingResponse from(HotJobpostingSnapshot snapshot) {
+            return HotJobpostingResponse.builder()
+                    .jobpostingId(snapshot.getJobpostingId())
+                    .title(snapshot.getTitle()).boardId(snapshot.getBoardId())
+                    .likeCount(snapshot.getLikeCount()).commentCount(snapshot.getCommentCount())
+                    .viewCount(snapshot.getViewCount()).score(snapshot.getScore())
+                    .build();
+        }
+    }
+}
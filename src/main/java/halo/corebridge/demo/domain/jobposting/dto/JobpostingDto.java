@@ -55,12 +55,19 @@ public class JobpostingDto {
                     .createdAt(jp.getCreatedAt()).updatedAt(jp.getUpdatedAt())
                     .build();
         }
+    }
 
-        private static List<String> parseSkills(String skillsJson) {
-            if (skillsJson == null || skillsJson.isBlank()) return List.of();
-            String cleaned = skillsJson.replaceAll("[\\[\\]\"]", "");
-            return cleaned.isBlank() ? List.of() : List.of(cleaned.split(",\\s*"));
-        }
+    /** 스킬 컬럼(JSON 배열 문자열) → 목록 */
+    public static List<String> parseSkills(String skillsJson) {
+        if (skillsJson == null || skillsJson.isBlank()) return List.of();
+        String cleaned = skillsJson.replaceAll("[\\[\\]\"]", "");
+        return cleaned.isBlank() ? List.of() : List.of(cleaned.split(",\\s*"));
+    }
+
+    /** 스킬 목록 → 스킬 컬럼(JSON 배열 문자열) */
+    public static String toSkillsJson(List<String> skills) {
+        if (skills == null || skills.isEmpty()) return null;
+        return "[\"" + String.join("\",\"", skills) + "\"]";
     }
 
     @Getter @Builder
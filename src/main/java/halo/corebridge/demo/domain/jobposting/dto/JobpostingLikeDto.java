@@ -0,0 +1,35 @@
+package halo.corebridge.demo.domain.jobposting.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+public class JobpostingLikeDto {
+
+    @Getter @Builder
+    public static class LikeStatusResponse {
+        private Long jobpostingId;
+        private Long userId;
+        private boolean liked;
+        private long likeCount;
+
+        public static LikeStatusResponse of(Long jobpostingId, Long userId, boolean liked, long likeCount) {
+            return LikeStatusResponse.builder()
+                    .jobpostingId(jobpostingId).userId(userId)
+                    .liked(liked).likeCount(likeCount)
+                    .build();
+        }
+    }
+
+    /** 목록 화면용: 요청한 공고 중 내가 좋아요한 공고 */
+    @Getter @Builder
+    public static class LikedResponse {
+        private Long userId;
+        private List<Long> likedJobpostingIds;
+
+        public static LikedResponse of(Long userId, List<Long> likedJobpostingIds) {
+            return LikedResponse.builder().userId(userId).likedJobpostingIds(likedJobpostingIds).build();
+        }
+    }
+}
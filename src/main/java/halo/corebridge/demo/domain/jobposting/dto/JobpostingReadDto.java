@@ -0,0 +1,40 @@
+package halo.corebridge.demo.domain.jobposting.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공고 통합 조회 (공고 + 작성자 닉네임 + 조회수/좋아요/댓글 수)
+ */
+public class JobpostingReadDto {
+
+    @Getter @Builder
+    public static class ReadResponse {
+        private Long jobpostingId;
+        private String title;
+        private String content;
+        private Long boardId;
+        private Long userId;
+        private String nickname;
+        private List<String> requiredSkills;
+        private List<String> preferredSkills;
+        private long viewCount;
+        private long likeCount;
+        private long commentCount;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Getter @Builder
+    public static class ReadPageResponse {
+        private List<ReadResponse> jobpostings;
+        private Long jobpostingCount;
+
+        public static ReadPageResponse of(List<ReadResponse> list, Long count) {
+            return ReadPageResponse.builder().jobpostings(list).jobpostingCount(count).build();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package halo.corebridge.demo.domain.jobposting.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 인기 공고 순위 (매일 자정에 그날 순위를 저장)
+ *
+ * 과거 날짜 조회는 이 테이블만 읽으므로 그 뒤 공고 수정/삭제와 무관하게 당시 값이 유지됩니다.
+ */
+@Entity
+@Table(name = "hot_jobposting_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hot_snapshot_date_ranking", columnNames = {"snapshotDate", "ranking"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HotJobpostingSnapshot {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private int ranking;
+
+    @Column(nullable = false)
+    private Long jobpostingId;
+
+    @Column(length = 500)
+    private String title;
+
+    private Long boardId;
+    private long viewCount;
+    private long likeCount;
+    private long commentCount;
+    private double score;
+
+    public static HotJobpostingSnapshot create(Long id, LocalDate snapshotDate, int ranking, Long jobpostingId,
+                                               String title, Long boardId, long viewCount, long likeCount,
+                                               long commentCount, double score) {
+        HotJobpostingSnapshot snapshot = new HotJobpostingSnapshot();
+        snapshot.id = id;
+        snapshot.snapshotDate = snapshotDate;
+        snapshot.ranking = ranking;
+        snapshot.jobpostingId = jobpostingId;
+        snapshot.title = title;
+        snapshot.boardId = boardId;
+        snapshot.viewCount = viewCount;
+        snapshot.likeCount = likeCount;
+        snapshot.commentCount = commentCount;
+        snapshot.score = score;
+        return snapshot;
+    }
+}
@@ -0,0 +1,50 @@
+package halo.corebridge.demo.domain.jobposting.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 채용공고 좋아요 (공고 × 사용자 한 행, 취소하면 행 삭제)
+ *
+ * 쓰기는 JobpostingLikeService의 flusher가 JDBC batch로 모아서 반영합니다.
+ */
+@Entity
+@Table(name = "jobposting_like", indexes = {
+        @Index(name = "idx_jobposting_like_user_id", columnList = "userId")
+})
+@IdClass(JobpostingLike.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobpostingLike {
+
+    @Id
+    private Long jobpostingId;
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public static JobpostingLike create(Long jobpostingId, Long userId, LocalDateTime createdAt) {
+        JobpostingLike like = new JobpostingLike();
+        like.jobpostingId = jobpostingId;
+        like.userId = userId;
+        like.createdAt = createdAt;
+        return like;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long jobpostingId;
+        private Long userId;
+    }
+}
@@ -0,0 +1,32 @@
+package halo.corebridge.demo.domain.jobposting.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채용공고 누적 조회수
+ *
+ * 쓰기는 JobpostingViewService의 flusher가 JDBC MERGE로 증분만 더합니다.
+ */
+@Entity
+@Table(name = "jobposting_view_count")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobpostingViewCount {
+
+    @Id
+    private Long jobpostingId;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package halo.corebridge.demo.domain.jobposting.repository;
+
+import halo.corebridge.demo.domain.jobposting.entity.HotJobpostingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface HotJobpostingSnapshotRepository extends JpaRepository<HotJobpostingSnapshot, Long> {
+
+    List<HotJobpostingSnapshot> findBySnapshotDateOrderByRankingAsc(LocalDate snapshotDate);
+
+    @Modifying
+    @Query("DELETE FROM HotJobpostingSnapshot s WHERE s.snapshotDate = :snapshotDate")
+    int deleteBySnapshotDate(@Param("snapshotDate") LocalDate snapshotDate);
+}
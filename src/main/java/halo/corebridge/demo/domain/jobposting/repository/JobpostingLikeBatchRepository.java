@@ -0,0 +1,64 @@
+package halo.corebridge.demo.domain.jobposting.repository;
+
+import halo.corebridge.demo.domain.jobposting.entity.JobpostingLike;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 좋아요 / 좋아요 취소 batch 반영 (호출 측 트랜잭션 안에서 실행)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobpostingLikeBatchRepository {
+
+    /** 이미 있는 행은 그대로 둠 (재시도 시에도 안전) */
+    private static final String INSERT_SQL = "MERGE INTO jobposting_like t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) s(jobposting_id, user_id, created_at) " +
+            "ON t.jobposting_id = s.jobposting_id AND t.user_id = s.user_id " +
+            "WHEN NOT MATCHED THEN INSERT (jobposting_id, user_id, created_at) " +
+            "VALUES (s.jobposting_id, s.user_id, s.created_at)";
+
+    private static final String DELETE_SQL = "DELETE FROM jobposting_like WHERE jobposting_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertLikes(List<JobpostingLike> likes) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                JobpostingLike like = likes.get(i);
+                ps.setLong(1, like.getJobpostingId());
+                ps.setLong(2, like.getUserId());
+                ps.setTimestamp(3, Timestamp.valueOf(like.getCreatedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return likes.size();
+            }
+        });
+    }
+
+    public void deleteLikes(List<JobpostingLike> likes) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                JobpostingLike like = likes.get(i);
+                ps.setLong(1, like.getJobpostingId());
+                ps.setLong(2, like.getUserId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return likes.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package halo.corebridge.demo.domain.jobposting.repository;
+
+import halo.corebridge.demo.domain.jobposting.entity.JobpostingLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JobpostingLikeRepository extends JpaRepository<JobpostingLike, JobpostingLike.Key> {
+
+    @Query("SELECT l.userId FROM JobpostingLike l WHERE l.jobpostingId = :jobpostingId")
+    List<Long> findUserIdsByJobpostingId(@Param("jobpostingId") Long jobpostingId);
+
+    List<JobpostingLike> findByJobpostingIdIn(Collection<Long> jobpostingIds);
+
+    /**
+     * 전체 공고의 좋아요 수 (인기 순위 / 읽기 모델 초기화용)
+     */
+    @Query("SELECT l.jobpostingId AS jobpostingId, COUNT(l) AS likeCount FROM JobpostingLike l GROUP BY l.jobpostingId")
+    List<LikeCountView> countGroupByJobpostingId();
+}
@@ -4,7 +4,10 @@ import halo.corebridge.demo.domain.jobposting.entity.Jobposting;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface JobpostingRepository extends JpaRepository<Jobposting, Long> {
@@ -29,4 +32,16 @@ public interface JobpostingRepository extends JpaRepository<Jobposting, Long> {
      * 사용자별 공고 목록 (기업이 작성한 공고)
      */
     List<Jobposting> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * 전체 공고 ID (인기 순위 초기화용)
+     */
+    @Query("SELECT j.jobpostingId FROM Jobposting j")
+    List<Long> findAllIds();
+
+    /**
+     * 주어진 ID 중 실제 존재하는 공고 ID (좋아요 일괄 적재용)
+     */
+    @Query("SELECT j.jobpostingId FROM Jobposting j WHERE j.jobpostingId IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
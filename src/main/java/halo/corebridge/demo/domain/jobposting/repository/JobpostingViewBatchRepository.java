@@ -0,0 +1,47 @@
+package halo.corebridge.demo.domain.jobposting.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 증분 batch upsert (행이 없으면 만들고, 있으면 view_count에 더함)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobpostingViewBatchRepository {
+
+    private static final String UPSERT_SQL = "MERGE INTO jobposting_view_count t " +
+            "USING (VALUES (CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) s(jobposting_id, delta, ts) " +
+            "ON t.jobposting_id = s.jobposting_id " +
+            "WHEN MATCHED THEN UPDATE SET view_count = t.view_count + s.delta, updated_at = s.ts " +
+            "WHEN NOT MATCHED THEN INSERT (jobposting_id, view_count, updated_at) VALUES (s.jobposting_id, s.delta, s.ts)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addViewCounts(List<Map.Entry<Long, Long>> deltas, LocalDateTime now) {
+        Timestamp ts = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Long> delta = deltas.get(i);
+                ps.setLong(1, delta.getKey());
+                ps.setLong(2, delta.getValue());
+                ps.setTimestamp(3, ts);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return deltas.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package halo.corebridge.demo.domain.jobposting.repository;
+
+import halo.corebridge.demo.domain.jobposting.entity.JobpostingViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobpostingViewCountRepository extends JpaRepository<JobpostingViewCount, Long> {
+}
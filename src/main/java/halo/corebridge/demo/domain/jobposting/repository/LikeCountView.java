@@ -0,0 +1,11 @@
+package halo.corebridge.demo.domain.jobposting.repository;
+
+/**
+ * 공고별 좋아요 수 프로젝션
+ */
+public interface LikeCountView {
+
+    Long getJobpostingId();
+
+    Long getLikeCount();
+}
@@ -0,0 +1,29 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jobposting.hot")
+public class HotJobpostingProperties {
+
+    /** 인기 공고 목록 길이 */
+    private int topK = 10;
+
+    /** 점수 반감기 (ms): 이 시간이 지나면 이벤트 기여도가 절반이 됨 */
+    private long halfLifeMs = 21600000;
+
+    /** 쌓인 이벤트를 순위에 반영하는 주기 (ms) */
+    private long applyIntervalMs = 1000;
+
+    /** 감쇠 후 점수가 이 값보다 작아진 공고는 순위에서 제거 */
+    private double pruneScore = 0.05;
+
+    private double viewWeight = 0.3;
+    private double likeWeight = 2.0;
+    private double commentWeight = 3.0;
+}
@@ -0,0 +1,194 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 시간 감쇠 점수 기반 인기 공고 순위 (인메모리)
+ *
+ * 점수 = Σ weight × 2^(-(now - 이벤트 시각) / halfLife)
+ * 모든 점수를 기준 시각(epoch) 대비 exp(λ·(t - epoch))배로 키워서 저장하면 시간이 지나도 순서가 그대로이므로,
+ * 이벤트가 온 공고 하나만 정렬 집합에서 빼고 다시 넣으면 됩니다 (O(log n)). 상위 K개 조회는 O(K).
+ * 배율이 너무 커지기 전에 기준 시각을 옮기며 전체를 한 번 다시 나눕니다.
+ *
+ * 조회/좋아요/댓글 이벤트는 공고별 DoubleAdder에 더하기만 하고 (호출 스레드끼리 lock 경쟁 없음),
+ * apply()가 주기적으로 모아서 정렬 집합에 반영합니다.
+ */
+@Component
+public class HotJobpostingRanking {
+
+    /** 배율 지수가 이 값을 넘으면 기준 시각을 옮김 (e^40 ≈ 2.4e17, double 정밀도 여유) */
+    private static final double REBASE_EXPONENT = 40;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::getScaledScore).reversed()
+            .thenComparing(Entry::getJobpostingId);
+
+    private final HotJobpostingProperties properties;
+    /** 1ms당 감쇠율 λ = ln2 / halfLife */
+    private final double lambda;
+
+    private final Map<Long, DoubleAdder> pending = new ConcurrentHashMap<>();
+
+    // 아래는 모두 this lock 안에서 접근
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> ranked = new TreeSet<>(ORDER);
+    private long epochMs;
+
+    public HotJobpostingRanking(HotJobpostingProperties properties) {
+        this.properties = properties;
+        this.lambda = Math.log(2) / properties.getHalfLifeMs();
+        this.epochMs = System.currentTimeMillis();
+    }
+
+    // ============================================
+    // 이벤트
+    // ============================================
+
+    public void onView(long jobpostingId) {
+        record(jobpostingId, properties.getViewWeight());
+    }
+
+    public void onLike(long jobpostingId) {
+        record(jobpostingId, properties.getLikeWeight());
+    }
+
+    public void onUnlike(long jobpostingId) {
+        record(jobpostingId, -properties.getLikeWeight());
+    }
+
+    public void onComment(long jobpostingId) {
+        record(jobpostingId, properties.getCommentWeight());
+    }
+
+    /** 누적 지표로 계산한 점수 (기동 시 초기화용) */
+    public double scoreOf(long viewCount, long likeCount, long commentCount) {
+        return viewCount * properties.getViewWeight()
+                + likeCount * properties.getLikeWeight()
+                + commentCount * properties.getCommentWeight();
+    }
+
+    // ============================================
+    // 순위 반영 / 조회
+    // ============================================
+
+    /** 쌓인 이벤트를 nowMs 시각의 이벤트로 반영 */
+    public synchronized void apply(long nowMs) {
+        rebaseIfNeeded(nowMs);
+        double scale = Math.exp(lambda * (nowMs - epochMs));
+        for (Map.Entry<Long, DoubleAdder> e : pending.entrySet()) {
+            DoubleAdder adder = e.getValue();
+            double weight = adder.sum();
+            if (weight == 0) {
+                continue;
+            }
+            // sumThenReset은 동시에 더해진 값을 잃을 수 있으므로 읽은 만큼만 뺌
+            adder.add(-weight);
+            add(e.getKey(), weight * scale);
+        }
+    }
+
+    /** 점수 전체 교체 (기동 시 누적 지표로 초기화) */
+    public synchronized void replaceAll(Map<Long, Double> scores, long nowMs) {
+        entries.clear();
+        ranked.clear();
+        pending.clear();
+        epochMs = nowMs;
+        scores.forEach(this::add);
+    }
+
+    public synchronized void remove(long jobpostingId) {
+        pending.remove(jobpostingId);
+        Entry entry = entries.remove(jobpostingId);
+        if (entry != null) {
+            ranked.remove(entry);
+        }
+    }
+
+    /** 상위 k개 (nowMs 기준 감쇠 점수) */
+    public synchronized List<Ranked> top(int k, long nowMs) {
+        double decay = Math.exp(-lambda * (nowMs - epochMs));
+        List<Ranked> result = new ArrayList<>(Math.min(k, ranked.size()));
+        for (Entry entry : ranked) {
+            if (result.size() >= k) {
+                break;
+            }
+            result.add(new Ranked(entry.jobpostingId, entry.scaledScore * decay));
+        }
+        return result;
+    }
+
+    /** 감쇠 후 점수가 minScore 미만인 공고 제거 (정렬 집합 뒤쪽부터) */
+    public synchronized int prune(double minScore, long nowMs) {
+        double threshold = minScore * Math.exp(lambda * (nowMs - epochMs));
+        int removed = 0;
+        while (!ranked.isEmpty() && ranked.last().scaledScore < threshold) {
+            entries.remove(ranked.pollLast().jobpostingId);
+            removed++;
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    /** 좋아요 취소처럼 음수 weight도 가능 */
+    private void record(long jobpostingId, double weight) {
+        pending.computeIfAbsent(jobpostingId, id -> new DoubleAdder()).add(weight);
+    }
+
+    private void add(long jobpostingId, double scaledDelta) {
+        Entry entry = entries.get(jobpostingId);
+        double score = scaledDelta;
+        if (entry != null) {
+            ranked.remove(entry);
+            score += entry.scaledScore;
+        }
+        if (score <= 0) {
+            entries.remove(jobpostingId);
+            return;
+        }
+        Entry updated = new Entry(jobpostingId, score);
+        entries.put(jobpostingId, updated);
+        ranked.add(updated);
+    }
+
+    private void rebaseIfNeeded(long nowMs) {
+        double exponent = lambda * (nowMs - epochMs);
+        if (exponent < REBASE_EXPONENT) {
+            return;
+        }
+        Map<Long, Double> current = new HashMap<>();
+        double decay = Math.exp(-exponent);
+        entries.forEach((id, entry) -> current.put(id, entry.scaledScore * decay));
+        entries.clear();
+        ranked.clear();
+        epochMs = nowMs;
+        current.forEach(this::add);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final long jobpostingId;
+        private final double scaledScore;
+    }
+
+    public record Ranked(long jobpostingId, double score) {
+    }
+}
@@ -0,0 +1,186 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
+import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.domain.comment.repository.CommentCountView;
+import halo.corebridge.demo.domain.comment.repository.CommentRepository;
+import halo.corebridge.demo.domain.jobposting.dto.HotJobpostingDto;
+import halo.corebridge.demo.domain.jobposting.entity.HotJobpostingSnapshot;
+import halo.corebridge.demo.domain.jobposting.entity.Jobposting;
+import halo.corebridge.demo.domain.jobposting.repository.HotJobpostingSnapshotRepository;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingLikeRepository;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 공고 조회 / 일별 스냅샷
+ *
+ * 오늘 순위는 HotJobpostingRanking의 상위 K개를 읽고 공고 정보와 지표를 묶음 조회로 붙입니다.
+ * 매일 자정에 그날 순위를 hot_jobposting_snapshot에 저장하고, 지난 날짜는 저장된 결과만 읽습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotJobpostingService {
+
+    private final Snowflake snowflake;
+    private final HotJobpostingRanking ranking;
+    private final HotJobpostingProperties properties;
+    private final JobpostingRepository jobpostingRepository;
+    private final JobpostingLikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final HotJobpostingSnapshotRepository snapshotRepository;
+    private final JobpostingViewService viewService;
+    private final JobpostingLikeService likeService;
+
+    /** 기동 시 누적 조회/좋아요/댓글 수로 순위 초기화 (좋아요·댓글은 GROUP BY 집계, 이후는 이벤트로 갱신) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initRanking() {
+        List<Long> ids = jobpostingRepository.findAllIds();
+        Map<Long, Long> views = viewService.getCounts(ids);
+        Map<Long, Long> likes = new HashMap<>();
+        likeRepository.countGroupByJobpostingId().forEach(c -> likes.put(c.getJobpostingId(), c.getLikeCount()));
+        Map<Long, Long> comments = toMap(commentRepository.countGroupByJobpostingId());
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (Long id : ids) {
+            double score = ranking.scoreOf(views.getOrDefault(id, 0L), likes.getOrDefault(id, 0L),
+                    comments.getOrDefault(id, 0L));
+            if (score > 0) {
+                scores.put(id, score);
+            }
+        }
+        ranking.replaceAll(scores, System.currentTimeMillis());
+        log.info("인기 공고 순위 초기화: jobpostings={}, ranked={}", ids.size(), scores.size());
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    @Transactional(readOnly = true)
+    public List<HotJobpostingDto.HotJobpostingResponse> getToday() {
+        return rankToday();
+    }
+
+    /** yyyyMMdd 또는 yyyy-MM-dd. 오늘이면 실시간 순위, 지난 날짜면 저장된 스냅샷 */
+    @Transactional(readOnly = true)
+    public List<HotJobpostingDto.HotJobpostingResponse> getByDate(String dateStr) {
+        LocalDate date = parseDate(dateStr);
+        if (!date.isBefore(LocalDate.now())) {
+            return date.isEqual(LocalDate.now()) ? rankToday() : List.of();
+        }
+        return snapshotRepository.findBySnapshotDateOrderByRankingAsc(date).stream()
+                .map(HotJobpostingDto.HotJobpostingResponse::from)
+                .toList();
+    }
+
+    // ============================================
+    // 순위 반영 / 스냅샷
+    // ============================================
+
+    @Scheduled(fixedDelayString = "${jobposting.hot.apply-interval-ms:1000}")
+    public void applyEvents() {
+        long now = System.currentTimeMillis();
+        ranking.apply(now);
+        ranking.prune(properties.getPruneScore(), now);
+    }
+
+    /** 자정 직후 실행: 막 끝난 날짜의 순위를 저장 */
+    @Scheduled(cron = "${jobposting.hot.snapshot-cron:0 0 0 * * *}")
+    @Transactional
+    public void snapshotYesterday() {
+        snapshot(LocalDate.now().minusDays(1));
+    }
+
+    /** 현재 순위를 date의 결과로 저장 (같은 날짜를 다시 저장하면 덮어씀) */
+    @Transactional
+    public int snapshot(LocalDate date) {
+        applyEvents();
+        List<HotJobpostingDto.HotJobpostingResponse> today = rankToday();
+        snapshotRepository.deleteBySnapshotDate(date);
+
+        long[] ids = snowflake.nextIds(Math.max(1, today.size()));
+        List<HotJobpostingSnapshot> rows = new ArrayList<>(today.size());
+        for (int i = 0; i < today.size(); i++) {
+            HotJobpostingDto.HotJobpostingResponse hot = today.get(i);
+            rows.add(HotJobpostingSnapshot.create(ids[i], date, i + 1, hot.getJobpostingId(), hot.getTitle(),
+                    hot.getBoardId(), hot.getViewCount(), hot.getLikeCount(), hot.getCommentCount(), hot.getScore()));
+        }
+        snapshotRepository.saveAll(rows);
+        log.info("인기 공고 스냅샷 저장: date={}, size={}", date, rows.size());
+        return rows.size();
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    /** 상위 K개 + 공고/지표 묶음 조회 (공고 1회, 댓글 수 1회, 조회수/좋아요는 메모리) */
+    private List<HotJobpostingDto.HotJobpostingResponse> rankToday() {
+        List<HotJobpostingRanking.Ranked> top = ranking.top(properties.getTopK(), System.currentTimeMillis());
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = top.stream().map(HotJobpostingRanking.Ranked::jobpostingId).toList();
+        Map<Long, Jobposting> postings = jobpostingRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Jobposting::getJobpostingId, Function.identity()));
+        Map<Long, Long> views = viewService.getCounts(ids);
+        Map<Long, Long> likes = likeService.getCounts(postings.keySet());
+        Map<Long, Long> comments = toMap(commentRepository.countByJobpostingIds(ids));
+
+        List<HotJobpostingDto.HotJobpostingResponse> result = new ArrayList<>(top.size());
+        for (HotJobpostingRanking.Ranked ranked : top) {
+            Jobposting jp = postings.get(ranked.jobpostingId());
+            if (jp == null) {
+                // 삭제된 공고
+                ranking.remove(ranked.jobpostingId());
+                continue;
+            }
+            result.add(HotJobpostingDto.HotJobpostingResponse.builder()
+                    .jobpostingId(jp.getJobpostingId())
+                    .title(jp.getTitle())
+                    .boardId(jp.getBoardId())
+                    .viewCount(views.getOrDefault(jp.getJobpostingId(), 0L))
+                    .likeCount(likes.getOrDefault(jp.getJobpostingId(), 0L))
+                    .commentCount(comments.getOrDefault(jp.getJobpostingId(), 0L))
+                    .score(Math.round(ranked.score() * 10) / 10.0)
+                    .build());
+        }
+        return result;
+    }
+
+    private static LocalDate parseDate(String dateStr) {
+        try {
+            return dateStr.contains("-")
+                    ? LocalDate.parse(dateStr)
+                    : LocalDate.parse(dateStr, DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_REQUEST);
+        }
+    }
+
+    private static Map<Long, Long> toMap(List<CommentCountView> counts) {
+        Map<Long, Long> result = new HashMap<>();
+        counts.forEach(count -> result.put(count.getJobpostingId(), count.getCommentCount()));
+        return result;
+    }
+}
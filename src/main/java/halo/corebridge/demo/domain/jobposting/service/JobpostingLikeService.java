@@ -0,0 +1,301 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import halo.corebridge.demo.common.collection.LongHashSet;
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
+import halo.corebridge.demo.domain.jobposting.dto.JobpostingLikeDto;
+import halo.corebridge.demo.domain.jobposting.entity.JobpostingLike;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingLikeBatchRepository;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingLikeRepository;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채용공고 좋아요
+ *
+ * 공고마다 좋아요한 userId를 LongHashSet에 두고, 좋아요/취소는 공고 단위 lock 안에서
+ * 집합 변경과 대기 작업 기록을 함께 하므로 중복 좋아요나 음수 카운트가 생기지 않습니다.
+ * DB(jobposting_like)에는 flusher가 주기적으로 모아서 batch 반영합니다.
+ *
+ * 공고별 집합은 처음 접근할 때 DB에서 한 번 적재합니다. 단일 인스턴스 기준입니다.
+ */
+@Slf4j
+@Service
+public class JobpostingLikeService {
+
+    private final JobpostingRepository jobpostingRepository;
+    private final JobpostingLikeRepository likeRepository;
+    private final JobpostingLikeBatchRepository batchRepository;
+    private final HotJobpostingRanking hotRanking;
+    private final JobpostingReadModel readModel;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, PostingLikes> postings = new ConcurrentHashMap<>();
+    /** 아직 DB에 반영하지 않은 변경이 있는 공고 */
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    private final Counter flushFailedCounter;
+
+    public JobpostingLikeService(JobpostingRepository jobpostingRepository,
+                                 JobpostingLikeRepository likeRepository,
+                                 JobpostingLikeBatchRepository batchRepository,
+                                 HotJobpostingRanking hotRanking,
+                                 JobpostingReadModel readModel,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.jobpostingRepository = jobpostingRepository;
+        this.likeRepository = likeRepository;
+        this.batchRepository = batchRepository;
+        this.hotRanking = hotRanking;
+        this.readModel = readModel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushFailedCounter = Counter.builder("jobposting.like.flush.failed")
+                .description("DB 반영에 실패해 다음 주기로 넘긴 횟수")
+                .register(meterRegistry);
+    }
+
+    // ============================================
+    // 좋아요 / 취소
+    // ============================================
+
+    /** @return 새로 좋아요 했으면 true (이미 좋아요 상태면 false) */
+    public boolean like(Long userId, Long jobpostingId) {
+        PostingLikes likes = postingLikes(jobpostingId);
+        if (!likes.like(userId)) {
+            return false;
+        }
+        dirty.add(jobpostingId);
+        hotRanking.onLike(jobpostingId);
+        readModel.addLikes(jobpostingId, 1);
+        return true;
+    }
+
+    /** @return 좋아요를 취소했으면 true (좋아요 상태가 아니었으면 false) */
+    public boolean unlike(Long userId, Long jobpostingId) {
+        PostingLikes likes = postingLikes(jobpostingId);
+        if (!likes.unlike(userId)) {
+            return false;
+        }
+        dirty.add(jobpostingId);
+        hotRanking.onUnlike(jobpostingId);
+        readModel.addLikes(jobpostingId, -1);
+        return true;
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    public JobpostingLikeDto.LikeStatusResponse getStatus(Long userId, Long jobpostingId) {
+        PostingLikes likes = postingLikes(jobpostingId);
+        synchronized (likes) {
+            return JobpostingLikeDto.LikeStatusResponse.of(jobpostingId, userId,
+                    userId != null && likes.users.contains(userId), likes.users.size());
+        }
+    }
+
+    public long getCount(Long jobpostingId) {
+        return postingLikes(jobpostingId).count();
+    }
+
+    /** 여러 공고의 좋아요 수 (적재되지 않은 공고는 IN 쿼리 한 번으로 적재) */
+    public Map<Long, Long> getCounts(Collection<Long> jobpostingIds) {
+        Set<Long> ids = new LinkedHashSet<>(jobpostingIds);
+        loadAll(ids);
+        Map<Long, Long> result = new HashMap<>();
+        for (Long id : ids) {
+            PostingLikes likes = postings.get(id);
+            result.put(id, likes != null ? likes.count() : 0L);
+        }
+        return result;
+    }
+
+    /**
+     * 목록 화면용 "내가 좋아요 했나?" 일괄 조회
+     * 아직 적재하지 않은 공고는 IN 쿼리 한 번으로 함께 적재합니다.
+     */
+    public JobpostingLikeDto.LikedResponse getLiked(Long userId, Collection<Long> jobpostingIds) {
+        Set<Long> ids = new LinkedHashSet<>(jobpostingIds);
+        loadAll(ids);
+        List<Long> liked = new ArrayList<>();
+        for (Long id : ids) {
+            PostingLikes likes = postings.get(id);
+            if (likes != null && likes.contains(userId)) {
+                liked.add(id);
+            }
+        }
+        return JobpostingLikeDto.LikedResponse.of(userId, liked);
+    }
+
+    // ============================================
+    // DB 반영
+    // ============================================
+
+    @Scheduled(fixedDelayString = "${jobposting.like.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, PendingChanges> taken = new HashMap<>();
+        List<JobpostingLike> inserts = new ArrayList<>();
+        List<JobpostingLike> deletes = new ArrayList<>();
+        for (Long jobpostingId : dirty) {
+            dirty.remove(jobpostingId);
+            PendingChanges changes = postings.get(jobpostingId).takePending();
+            taken.put(jobpostingId, changes);
+            changes.inserts.forEach(userId -> inserts.add(JobpostingLike.create(jobpostingId, userId, now)));
+            changes.deletes.forEach(userId -> deletes.add(JobpostingLike.create(jobpostingId, userId, now)));
+        }
+        if (inserts.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchRepository.insertLikes(inserts);
+                batchRepository.deleteLikes(deletes);
+            });
+        } catch (RuntimeException e) {
+            taken.forEach((jobpostingId, changes) -> {
+                postings.get(jobpostingId).restorePending(changes);
+                dirty.add(jobpostingId);
+            });
+            flushFailedCounter.increment();
+            log.warn("좋아요 DB 반영 실패, 다음 주기에 재시도: inserts={}, deletes={}",
+                    inserts.size(), deletes.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    private PostingLikes postingLikes(Long jobpostingId) {
+        return postings.computeIfAbsent(jobpostingId, this::load);
+    }
+
+    /** 공고당 한 번만 호출됨 (ConcurrentHashMap.computeIfAbsent 안에서) */
+    private PostingLikes load(Long jobpostingId) {
+        List<Long> userIds = likeRepository.findUserIdsByJobpostingId(jobpostingId);
+        if (userIds.isEmpty() && !jobpostingRepository.existsById(jobpostingId)) {
+            throw new BaseException(BaseResponseStatus.JOBPOSTING_NOT_FOUND);
+        }
+        PostingLikes likes = new PostingLikes(userIds.size());
+        userIds.forEach(likes.users::add);
+        return likes;
+    }
+
+    /**
+     * 적재되지 않은 공고를 한 번에 적재.
+     * 좋아요가 없는 공고는 존재 여부를 ID 쿼리 한 번으로 확인한 뒤 빈 상태로 캐시 (없는 공고는 캐시하지 않음)
+     */
+    private void loadAll(Set<Long> jobpostingIds) {
+        List<Long> missing = jobpostingIds.stream().filter(id -> !postings.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<Long, PostingLikes> loaded = new HashMap<>();
+        for (JobpostingLike like : likeRepository.findByJobpostingIdIn(missing)) {
+            loaded.computeIfAbsent(like.getJobpostingId(), id -> new PostingLikes(0)).users.add(like.getUserId());
+        }
+        List<Long> withoutLikes = missing.stream().filter(id -> !loaded.containsKey(id)).toList();
+        if (!withoutLikes.isEmpty()) {
+            jobpostingRepository.findExistingIds(withoutLikes).forEach(id -> loaded.put(id, new PostingLikes(0)));
+        }
+        // 그 사이 단건 경로로 적재된 공고는 그쪽 값을 유지
+        loaded.forEach(postings::putIfAbsent);
+    }
+
+    /** 공고 하나의 좋아요 상태 (모든 접근은 이 객체 lock 안에서) */
+    private static final class PostingLikes {
+
+        private final LongHashSet users;
+        private PendingChanges pending = new PendingChanges();
+
+        private PostingLikes(int expectedSize) {
+            this.users = new LongHashSet(expectedSize);
+        }
+
+        private synchronized boolean like(long userId) {
+            if (!users.add(userId)) {
+                return false;
+            }
+            // 반영 전 취소 기록이 있으면 상쇄
+            if (!pending.deletes.remove(userId)) {
+                pending.inserts.add(userId);
+            }
+            return true;
+        }
+
+        private synchronized boolean unlike(long userId) {
+            if (!users.remove(userId)) {
+                return false;
+            }
+            if (!pending.inserts.remove(userId)) {
+                pending.deletes.add(userId);
+            }
+            return true;
+        }
+
+        private synchronized boolean contains(long userId) {
+            return users.contains(userId);
+        }
+
+        private synchronized long count() {
+            return users.size();
+        }
+
+        private synchronized PendingChanges takePending() {
+            PendingChanges taken = pending;
+            pending = new PendingChanges();
+            return taken;
+        }
+
+        /**
+         * 반영 실패한 변경을 되돌림.
+         * DB는 실패 전 상태 그대로이므로, 그 사이 바뀐 현재 상태와 비교해 필요한 작업만 다시 기록합니다.
+         */
+        private synchronized void restorePending(PendingChanges failed) {
+            failed.inserts.forEach(userId -> reconcile(userId, false));
+            failed.deletes.forEach(userId -> reconcile(userId, true));
+        }
+
+        private void reconcile(long userId, boolean inDb) {
+            pending.inserts.remove(userId);
+            pending.deletes.remove(userId);
+            boolean liked = users.contains(userId);
+            if (liked && !inDb) {
+                pending.inserts.add(userId);
+            } else if (!liked && inDb) {
+                pending.deletes.add(userId);
+            }
+        }
+    }
+
+    private static final class PendingChanges {
+        private final LongHashSet inserts = new LongHashSet();
+        private final LongHashSet deletes = new LongHashSet();
+    }
+}
@@ -0,0 +1,257 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import halo.corebridge.demo.domain.jobposting.dto.JobpostingDto;
+import halo.corebridge.demo.domain.jobposting.dto.JobpostingReadDto;
+import halo.corebridge.demo.domain.jobposting.entity.Jobposting;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공고 통합 조회용 비정규화 projection (CQRS 읽기 모델, 인메모리)
+ *
+ * 공고 본문/미리보기, 작성자 닉네임, 파싱된 스킬, 조회수/좋아요/댓글 수를 한 행에 미리 모아 두므로
+ * 상세 조회는 id 한 번, 목록은 최신순 인덱스를 한 번 훑는 것으로 끝나고 DB나 다른 서비스를 거치지 않습니다.
+ *
+ * 공고 생성/수정/삭제와 닉네임 변경은 각 서비스가 커밋 후 반영하고,
+ * 조회/좋아요/댓글 수는 이벤트마다 행의 카운터만 더합니다.
+ * 기동 시 JobpostingReadService가 DB에서 한 번 적재하며, 적재 전에는 loaded()가 false입니다.
+ * 적재 중 커밋 후 반영이 먼저 들어온 공고(추가/삭제)는 적재 시 읽은 값으로 되살리거나 덮지 않습니다.
+ */
+@Component
+public class JobpostingReadModel {
+
+    /** 목록 응답의 content 길이 (화면은 120자에서 자름) */
+    static final int PREVIEW_LENGTH = 200;
+
+    /** 전체 게시판 (boardId가 이 값이면 게시판 구분 없이 조회) */
+    private static final long ALL_BOARD_ID = 1L;
+
+    private final Map<Long, Row> byId = new ConcurrentHashMap<>();
+    /** 최신순 (jobpostingId는 Snowflake라 생성 시각 순) */
+    private final NavigableMap<Long, Row> latest = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    private final Map<Long, NavigableMap<Long, Row>> latestByBoard = new ConcurrentHashMap<>();
+    /** ConcurrentSkipListMap.size()는 O(n)이라 건수는 따로 셈 */
+    private final AtomicInteger total = new AtomicInteger();
+    private final Map<Long, AtomicInteger> totalByBoard = new ConcurrentHashMap<>();
+
+    /** 적재가 끝나기 전에 삭제된 공고 (적재 시 건너뜀) */
+    private final Set<Long> removedBeforeLoad = new HashSet<>();
+
+    private volatile boolean loaded;
+
+    public boolean loaded() {
+        return loaded;
+    }
+
+    synchronized void markLoaded() {
+        removedBeforeLoad.clear();
+        loaded = true;
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    public JobpostingReadDto.ReadResponse find(Long jobpostingId) {
+        Row row = byId.get(jobpostingId);
+        return row == null ? null : row.toResponse(false);
+    }
+
+    /** page는 0부터. 목록의 content는 미리보기 */
+    public JobpostingReadDto.ReadPageResponse findPage(Long boardId, int page, int pageSize) {
+        boolean all = boardId == null || boardId == ALL_BOARD_ID;
+        NavigableMap<Long, Row> index = all ? latest : latestByBoard.get(boardId);
+        long count = all ? total.get() : countOf(boardId);
+        if (index == null) {
+            return JobpostingReadDto.ReadPageResponse.of(List.of(), 0L);
+        }
+        long skip = (long) page * pageSize;
+        List<JobpostingReadDto.ReadResponse> list = new ArrayList<>(pageSize);
+        for (Row row : index.values()) {
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            if (list.size() >= pageSize) {
+                break;
+            }
+            list.add(row.toResponse(true));
+        }
+        return JobpostingReadDto.ReadPageResponse.of(list, count);
+    }
+
+    // ============================================
+    // 공고 / 작성자 변경 (커밋 후 호출)
+    // ============================================
+
+    /** 새 공고 추가, 이미 있으면 본문만 교체 (카운터 유지) */
+    public synchronized void put(Jobposting jobposting, String nickname) {
+        Row row = byId.get(jobposting.getJobpostingId());
+        if (row != null) {
+            row.document = Document.of(jobposting, nickname);
+            return;
+        }
+        row = new Row(jobposting, nickname);
+        byId.put(row.jobpostingId, row);
+        latest.put(row.jobpostingId, row);
+        latestByBoard.computeIfAbsent(row.boardId, k -> new ConcurrentSkipListMap<>(Comparator.reverseOrder()))
+                .put(row.jobpostingId, row);
+        total.incrementAndGet();
+        totalByBoard.computeIfAbsent(row.boardId, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /** 공고 수정 반영 (닉네임은 그대로) */
+    public void update(Jobposting jobposting) {
+        Row row = byId.get(jobposting.getJobpostingId());
+        if (row != null) {
+            row.document = Document.of(jobposting, row.document.nickname());
+        }
+    }
+
+    public synchronized void remove(Long jobpostingId) {
+        if (!loaded) {
+            removedBeforeLoad.add(jobpostingId);
+        }
+        Row row = byId.remove(jobpostingId);
+        if (row == null) {
+            return;
+        }
+        latest.remove(jobpostingId);
+        NavigableMap<Long, Row> board = latestByBoard.get(row.boardId);
+        if (board != null) {
+            board.remove(jobpostingId);
+        }
+        total.decrementAndGet();
+        totalByBoard.get(row.boardId).decrementAndGet();
+    }
+
+    /** 작성자 닉네임 변경 (드문 작업이라 전체를 훑음) */
+    public void renameWriter(Long userId, String nickname) {
+        for (Row row : byId.values()) {
+            if (row.userId.equals(userId)) {
+                row.document = row.document.withNickname(nickname);
+            }
+        }
+    }
+
+    // ============================================
+    // 지표 (이벤트마다 호출, lock 없음)
+    // ============================================
+
+    public void addViews(Long jobpostingId, long count) {
+        Row row = byId.get(jobpostingId);
+        if (row != null) {
+            row.views.add(count);
+        }
+    }
+
+    public void addLikes(Long jobpostingId, long delta) {
+        Row row = byId.get(jobpostingId);
+        if (row != null) {
+            row.likes.add(delta);
+        }
+    }
+
+    public void addComments(Long jobpostingId, long delta) {
+        Row row = byId.get(jobpostingId);
+        if (row != null) {
+            row.comments.add(delta);
+        }
+    }
+
+    /**
+     * 적재 시 공고와 누적 지표 설정.
+     * 그 사이 삭제됐거나 커밋 후 반영으로 이미 들어온 공고는 건너뜀
+     */
+    synchronized void load(Jobposting jobposting, String nickname, long views, long likes, long comments) {
+        Long id = jobposting.getJobpostingId();
+        if (removedBeforeLoad.contains(id) || byId.containsKey(id)) {
+            return;
+        }
+        put(jobposting, nickname);
+        Row row = byId.get(id);
+        row.views.add(views);
+        row.likes.add(likes);
+        row.comments.add(comments);
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    private long countOf(Long boardId) {
+        AtomicInteger count = totalByBoard.get(boardId);
+        return count == null ? 0 : count.get();
+    }
+
+    private static final class Row {
+        private final Long jobpostingId;
+        private final Long boardId;
+        private final Long userId;
+        private final LocalDateTime createdAt;
+        /** 수정 시 통째로 교체 (읽는 쪽은 한 번 읽은 값을 그대로 사용) */
+        private volatile Document document;
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder comments = new LongAdder();
+
+        private Row(Jobposting jobposting, String nickname) {
+            this.jobpostingId = jobposting.getJobpostingId();
+            this.boardId = jobposting.getBoardId();
+            this.userId = jobposting.getUserId();
+            this.createdAt = jobposting.getCreatedAt();
+            this.document = Document.of(jobposting, nickname);
+        }
+
+        private JobpostingReadDto.ReadResponse toResponse(boolean preview) {
+            Document doc = document;
+            return JobpostingReadDto.ReadResponse.builder()
+                    .jobpostingId(jobpostingId)
+                    .title(doc.title())
+                    .content(preview ? doc.contentPreview() : doc.content())
+                    .boardId(boardId)
+                    .userId(userId)
+                    .nickname(doc.nickname())
+                    .requiredSkills(doc.requiredSkills())
+                    .preferredSkills(doc.preferredSkills())
+                    .viewCount(views.sum())
+                    .likeCount(likes.sum())
+                    .commentCount(comments.sum())
+                    .createdAt(createdAt)
+                    .updatedAt(doc.updatedAt())
+                    .build();
+        }
+    }
+
+    private record Document(String title, String content, String contentPreview,
+                            List<String> requiredSkills, List<String> preferredSkills,
+                            String nickname, LocalDateTime updatedAt) {
+
+        private static Document of(Jobposting jp, String nickname) {
+            String content = jp.getContent();
+            String preview = content != null && content.length() > PREVIEW_LENGTH
+                    ? content.substring(0, PREVIEW_LENGTH) : content;
+            return new Document(jp.getTitle(), content, preview,
+                    JobpostingDto.parseSkills(jp.getRequiredSkills()),
+                    JobpostingDto.parseSkills(jp.getPreferredSkills()),
+                    nickname, jp.getUpdatedAt());
+        }
+
+        private Document withNickname(String nickname) {
+            return new Document(title, content, contentPreview, requiredSkills, preferredSkills,
+                    nickname, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
+import halo.corebridge.demo.domain.comment.repository.CommentRepository;
+import halo.corebridge.demo.domain.jobposting.dto.JobpostingDto;
+import halo.corebridge.demo.domain.jobposting.dto.JobpostingReadDto;
+import halo.corebridge.demo.domain.jobposting.entity.Jobposting;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingLikeRepository;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingRepository;
+import halo.corebridge.demo.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 공고 통합 조회 (BFF)
+ *
+ * 기동 후에는 JobpostingReadModel(비정규화 projection)에서 바로 응답합니다.
+ * 적재 전에는 DB에서 조립하는데, 행마다 조회하지 않고 닉네임 IN 1회, 댓글 수 GROUP BY 1회,
+ * 조회수/좋아요 묶음 조회로 끝내므로 페이지 크기와 관계없이 조회 횟수가 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobpostingReadService {
+
+    private static final String UNKNOWN_NICKNAME = "알 수 없음";
+
+    private final JobpostingRepository jobpostingRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final JobpostingLikeRepository likeRepository;
+    private final JobpostingViewService viewService;
+    private final JobpostingLikeService likeService;
+    private final JobpostingReadModel readModel;
+
+    /** 전체 공고를 읽기 모델에 적재 (댓글/좋아요 수는 GROUP BY 집계) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadReadModel() {
+        List<Jobposting> jobpostings = jobpostingRepository.findAll();
+        List<Long> ids = jobpostings.stream().map(Jobposting::getJobpostingId).toList();
+        Map<Long, String> nicknames = findNicknames(jobpostings);
+        Map<Long, Long> comments = new HashMap<>();
+        commentRepository.countGroupByJobpostingId()
+                .forEach(c -> comments.put(c.getJobpostingId(), c.getCommentCount()));
+        Map<Long, Long> views = viewService.getCounts(ids);
+        Map<Long, Long> likes = new HashMap<>();
+        likeRepository.countGroupByJobpostingId().forEach(c -> likes.put(c.getJobpostingId(), c.getLikeCount()));
+
+        for (Jobposting jp : jobpostings) {
+            Long id = jp.getJobpostingId();
+            readModel.load(jp, nicknames.getOrDefault(jp.getUserId(), UNKNOWN_NICKNAME),
+                    views.getOrDefault(id, 0L), likes.getOrDefault(id, 0L), comments.getOrDefault(id, 0L));
+        }
+        readModel.markLoaded();
+        log.info("공고 읽기 모델 적재: jobpostings={}", jobpostings.size());
+    }
+
+    @Transactional(readOnly = true)
+    public JobpostingReadDto.ReadResponse read(Long jobpostingId) {
+        if (readModel.loaded()) {
+            JobpostingReadDto.ReadResponse response = readModel.find(jobpostingId);
+            if (response == null) {
+                throw new BaseException(BaseResponseStatus.JOBPOSTING_NOT_FOUND);
+            }
+            return response;
+        }
+        Jobposting jobposting = jobpostingRepository.findById(jobpostingId)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.JOBPOSTING_NOT_FOUND));
+        return assemble(List.of(jobposting)).get(0);
+    }
+
+    /** page는 1부터 (0 이하는 첫 페이지) */
+    @Transactional(readOnly = true)
+    public JobpostingReadDto.ReadPageResponse readAll(Long boardId, int page, int pageSize) {
+        if (readModel.loaded()) {
+            return readModel.findPage(boardId, Math.max(0, page - 1), pageSize);
+        }
+        PageRequest pageable = PageRequest.of(Math.max(0, page - 1), pageSize);
+        Page<Jobposting> result = (boardId == null || boardId == 1L)
+                ? jobpostingRepository.findAllByOrderByJobpostingIdDesc(pageable)
+                : jobpostingRepository.findByBoardIdOrderByJobpostingIdDesc(boardId, pageable);
+        return JobpostingReadDto.ReadPageResponse.of(assemble(result.getContent()), result.getTotalElements());
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    private List<JobpostingReadDto.ReadResponse> assemble(List<Jobposting> jobpostings) {
+        if (jobpostings.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = jobpostings.stream().map(Jobposting::getJobpostingId).toList();
+
+        Map<Long, String> nicknames = findNicknames(jobpostings);
+        Map<Long, Long> comments = new HashMap<>();
+        commentRepository.countByJobpostingIds(ids).forEach(c -> comments.put(c.getJobpostingId(), c.getCommentCount()));
+        Map<Long, Long> views = viewService.getCounts(ids);
+        Map<Long, Long> likes = likeService.getCounts(ids);
+
+        List<JobpostingReadDto.ReadResponse> result = new ArrayList<>(jobpostings.size());
+        for (Jobposting jp : jobpostings) {
+            Long id = jp.getJobpostingId();
+            result.add(JobpostingReadDto.ReadResponse.builder()
+                    .jobpostingId(id)
+                    .title(jp.getTitle())
+                    .content(jp.getContent())
+                    .boardId(jp.getBoardId())
+                    .userId(jp.getUserId())
+                    .nickname(nicknames.getOrDefault(jp.getUserId(), UNKNOWN_NICKNAME))
+                    .requiredSkills(JobpostingDto.parseSkills(jp.getRequiredSkills()))
+                    .preferredSkills(JobpostingDto.parseSkills(jp.getPreferredSkills()))
+                    .viewCount(views.getOrDefault(id, 0L))
+                    .likeCount(likes.getOrDefault(id, 0L))
+                    .commentCount(comments.getOrDefault(id, 0L))
+                    .createdAt(jp.getCreatedAt())
+                    .updatedAt(jp.getUpdatedAt())
+                    .build());
+        }
+        return result;
+    }
+
+    /** 작성자 닉네임 (IN 쿼리 한 번) */
+    private Map<Long, String> findNicknames(List<Jobposting> jobpostings) {
+        Set<Long> writerIds = new HashSet<>();
+        jobpostings.forEach(jp -> writerIds.add(jp.getUserId()));
+        Map<Long, String> nicknames = new HashMap<>();
+        if (!writerIds.isEmpty()) {
+            userRepository.findNicknames(writerIds).forEach(u -> nicknames.put(u.getUserId(), u.getNickname()));
+        }
+        return nicknames;
+    }
+}
@@ -1,9 +1,12 @@
 package halo.corebridge.demo.domain.jobposting.service;
 
 import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.common.transaction.AfterCommit;
 import halo.corebridge.demo.domain.jobposting.dto.JobpostingDto;
 import halo.corebridge.demo.domain.jobposting.entity.Jobposting;
 import halo.corebridge.demo.domain.jobposting.repository.JobpostingRepository;
+import halo.corebridge.demo.domain.user.entity.User;
+import halo.corebridge.demo.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,6 +23,9 @@ public class JobpostingService {
 
     private final Snowflake snowflake;
     private final JobpostingRepository jobpostingRepository;
+    private final HotJobpostingRanking hotRanking;
+    private final JobpostingReadModel readModel;
+    private final UserRepository userRepository;
 
     @Transactional
     public JobpostingDto.JobpostingResponse create(Long userId, JobpostingDto.CreateRequest request) {
@@ -30,10 +36,12 @@ public class JobpostingService {
                         request.getContent(),
                         request.getBoardId(),
                         userId,
-                        toJson(request.getRequiredSkills()),
-                        toJson(request.getPreferredSkills())
+                        JobpostingDto.toSkillsJson(request.getRequiredSkills()),
+                        JobpostingDto.toSkillsJson(request.getPreferredSkills())
                 )
         );
+        String nickname = userRepository.findById(userId).map(User::getNickname).orElse(null);
+        AfterCommit.run(() -> readModel.put(jobposting, nickname));
         log.info("채용공고 생성: jobpostingId={}, userId={}", jobposting.getJobpostingId(), userId);
         return JobpostingDto.JobpostingResponse.from(jobposting);
     }
@@ -46,7 +54,9 @@ public class JobpostingService {
         validateOwner(jobposting, userId);
 
         jobposting.update(request.getTitle(), request.getContent(),
-                toJson(request.getRequiredSkills()), toJson(request.getPreferredSkills()));
+                JobpostingDto.toSkillsJson(request.getRequiredSkills()),
+                JobpostingDto.toSkillsJson(request.getPreferredSkills()));
+        AfterCommit.run(() -> readModel.update(jobposting));
         log.info("채용공고 수정: jobpostingId={}, userId={}", jobpostingId, userId);
         return JobpostingDto.JobpostingResponse.from(jobposting);
     }
@@ -57,6 +67,10 @@ public class JobpostingService {
                 .orElseThrow(() -> new IllegalArgumentException("채용공고를 찾을 수 없습니다: " + jobpostingId));
         validateOwner(jobposting, userId);
         jobpostingRepository.deleteById(jobpostingId);
+        AfterCommit.run(() -> {
+            hotRanking.remove(jobpostingId);
+            readModel.remove(jobpostingId);
+        });
         log.info("채용공고 삭제: jobpostingId={}, userId={}", jobpostingId, userId);
     }
 
@@ -94,9 +108,4 @@ public class JobpostingService {
             throw new IllegalStateException("본인이 작성한 채용공고만 수정/삭제할 수 있습니다");
         }
     }
-
-    private String toJson(List<String> skills) {
-        if (skills == null || skills.isEmpty()) return null;
-        return "[\"" + String.join("\",\"", skills) + "\"]";
-    }
 }
@@ -0,0 +1,25 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jobposting.view")
+public class JobpostingViewProperties {
+
+    /** 쌓인 조회수 증분을 DB에 반영하는 주기 (ms) */
+    private long flushIntervalMs = 1000;
+
+    /** 한 번에 batch upsert할 최대 공고 수 */
+    private int batchSize = 500;
+
+    /** 같은 사용자(비로그인은 IP)가 같은 공고를 다시 봐도 세지 않는 시간 창 (ms, 0이면 비활성) */
+    private long dedupeWindowMs = 600000;
+
+    /** 중복 판정용으로 기억하는 최대 (공고, 조회자) 수 (넘으면 만료된 키부터 정리) */
+    private int dedupeMaxKeys = 100000;
+}
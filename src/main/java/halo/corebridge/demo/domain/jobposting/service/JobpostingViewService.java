@@ -0,0 +1,261 @@
+package halo.corebridge.demo.domain.jobposting.service;
+
+import halo.corebridge.demo.common.exception.BaseException;
+import halo.corebridge.demo.common.response.BaseResponseStatus;
+import halo.corebridge.demo.domain.jobposting.entity.JobpostingViewCount;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingRepository;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingViewBatchRepository;
+import halo.corebridge.demo.domain.jobposting.repository.JobpostingViewCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채용공고 조회수
+ *
+ * 조회는 공고별 LongAdder에 더하기만 하므로 인기 공고에 조회가 몰려도 쓰는 스레드끼리 줄을 서지 않고,
+ * DB에는 flusher가 주기적으로 공고별 증분을 모아 jobposting_view_count에 batch upsert 합니다.
+ *
+ * 같은 사용자(비로그인은 IP)의 같은 공고 조회는 dedupeWindowMs 동안 한 번만 셉니다.
+ * 표시용 누적값은 인스턴스 메모리에 있으므로 단일 인스턴스 기준입니다 (DB 값은 여러 인스턴스여도 정확).
+ */
+@Slf4j
+@Service
+public class JobpostingViewService {
+
+    private final JobpostingRepository jobpostingRepository;
+    private final JobpostingViewCountRepository viewCountRepository;
+    private final JobpostingViewBatchRepository batchRepository;
+    private final JobpostingViewProperties properties;
+    private final HotJobpostingRanking hotRanking;
+    private final JobpostingReadModel readModel;
+    private final TransactionTemplate transactionTemplate;
+
+    /** jobpostingId → 카운터 (조회/seed 된 공고만, 첫 접근 때 DB 값으로 초기화) */
+    private final Map<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+    /** 최근 조회: (공고, 조회자) → 만료 시각(ms) */
+    private final Map<ViewKey, Long> recentViews = new ConcurrentHashMap<>();
+
+    private final Counter countedCounter;
+    private final Counter dedupedCounter;
+    private final Counter flushFailedCounter;
+
+    public JobpostingViewService(JobpostingRepository jobpostingRepository,
+                                 JobpostingViewCountRepository viewCountRepository,
+                                 JobpostingViewBatchRepository batchRepository,
+                                 JobpostingViewProperties properties,
+                                 HotJobpostingRanking hotRanking,
+                                 JobpostingReadModel readModel,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.jobpostingRepository = jobpostingRepository;
+        this.viewCountRepository = viewCountRepository;
+        this.batchRepository = batchRepository;
+        this.properties = properties;
+        this.hotRanking = hotRanking;
+        this.readModel = readModel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("jobposting.view.unflushed", this, JobpostingViewService::unflushedTotal)
+                .description("아직 DB에 반영되지 않은 조회수")
+                .register(meterRegistry);
+        this.countedCounter = Counter.builder("jobposting.view.counted")
+                .description("집계한 조회 수")
+                .register(meterRegistry);
+        this.dedupedCounter = Counter.builder("jobposting.view.deduped")
+                .description("중복 조회로 세지 않은 요청 수")
+                .register(meterRegistry);
+        this.flushFailedCounter = Counter.builder("jobposting.view.flush.failed")
+                .description("DB 반영에 실패해 다음 주기로 넘긴 batch 수")
+                .register(meterRegistry);
+    }
+
+    // ============================================
+    // 조회수 증가 / 조회
+    // ============================================
+
+    /**
+     * 조회 1건 집계 (userId가 없으면 ip로 중복 판정)
+     *
+     * @return 집계 후 조회수
+     */
+    public long increase(Long jobpostingId, Long userId, String ip) {
+        ViewCounter counter = counter(jobpostingId);
+        if (isRecentView(new ViewKey(jobpostingId, userId, userId == null ? ip : null))) {
+            dedupedCounter.increment();
+            return counter.total.sum();
+        }
+        counter.add(1);
+        countedCounter.increment();
+        hotRanking.onView(jobpostingId);
+        readModel.addViews(jobpostingId, 1);
+        return counter.total.sum();
+    }
+
+    public long getCount(Long jobpostingId) {
+        ViewCounter counter = counters.get(jobpostingId);
+        if (counter != null) {
+            return counter.total.sum();
+        }
+        return viewCountRepository.findById(jobpostingId)
+                .map(JobpostingViewCount::getViewCount)
+                .orElse(0L);
+    }
+
+    /** 여러 공고의 조회수 (메모리에 없는 공고만 IN 쿼리 한 번으로 조회) */
+    public Map<Long, Long> getCounts(Collection<Long> jobpostingIds) {
+        Map<Long, Long> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : jobpostingIds) {
+            ViewCounter counter = counters.get(id);
+            if (counter != null) {
+                result.put(id, counter.total.sum());
+            } else {
+                result.put(id, 0L);
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            viewCountRepository.findAllById(missing)
+                    .forEach(viewCount -> result.put(viewCount.getJobpostingId(), viewCount.getViewCount()));
+        }
+        return result;
+    }
+
+    /** 초기 데이터용: 조회수를 count만큼 더함 (다음 flush 때 DB에 반영) */
+    public void seed(Long jobpostingId, long count) {
+        counter(jobpostingId).add(count);
+        readModel.addViews(jobpostingId, count);
+    }
+
+    // ============================================
+    // DB 반영
+    // ============================================
+
+    @Scheduled(fixedDelayString = "${jobposting.view.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Map.Entry<Long, Long>> batch = new ArrayList<>();
+        for (Map.Entry<Long, ViewCounter> entry : counters.entrySet()) {
+            // sumThenReset은 동시 증가분을 잃을 수 있으므로, 읽은 만큼만 빼서 넘김
+            LongAdder unflushed = entry.getValue().unflushed;
+            long delta = unflushed.sum();
+            if (delta == 0) {
+                continue;
+            }
+            unflushed.add(-delta);
+            batch.add(Map.entry(entry.getKey(), delta));
+            if (batch.size() >= properties.getBatchSize()) {
+                write(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${jobposting.view.dedupe-purge-interval-ms:60000}")
+    public void purgeRecentViews() {
+        long now = System.currentTimeMillis();
+        recentViews.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    private ViewCounter counter(Long jobpostingId) {
+        return counters.computeIfAbsent(jobpostingId, this::load);
+    }
+
+    /** 공고당 한 번만 호출됨 (ConcurrentHashMap.computeIfAbsent 안에서) */
+    private ViewCounter load(Long jobpostingId) {
+        ViewCounter counter = new ViewCounter();
+        viewCountRepository.findById(jobpostingId).ifPresentOrElse(
+                viewCount -> counter.total.add(viewCount.getViewCount()),
+                () -> {
+                    if (!jobpostingRepository.existsById(jobpostingId)) {
+                        throw new BaseException(BaseResponseStatus.JOBPOSTING_NOT_FOUND);
+                    }
+                });
+        return counter;
+    }
+
+    /** 창 안에 같은 조회가 있었으면 true, 아니면 이번 조회를 기억하고 false */
+    private boolean isRecentView(ViewKey key) {
+        long window = properties.getDedupeWindowMs();
+        if (window <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Long expiresAt = recentViews.get(key);
+        if (expiresAt != null && expiresAt > now) {
+            return true;
+        }
+        if (recentViews.size() >= properties.getDedupeMaxKeys()) {
+            purgeRecentViews();
+            if (recentViews.size() >= properties.getDedupeMaxKeys()) {
+                return false;
+            }
+        }
+        Long previous = recentViews.put(key, now + window);
+        // 동시에 들어온 같은 조회 중 하나만 셈
+        return previous != null && previous > now;
+    }
+
+    private void write(List<Map.Entry<Long, Long>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batchRepository.addViewCounts(batch, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            // 증분을 되돌려 다음 주기에 다시 반영
+            batch.forEach(delta -> counters.get(delta.getKey()).unflushed.add(delta.getValue()));
+            flushFailedCounter.increment();
+            log.warn("조회수 DB 반영 실패, 다음 주기에 재시도: size={}", batch.size(), e);
+        }
+    }
+
+    private double unflushedTotal() {
+        long sum = 0;
+        for (ViewCounter counter : counters.values()) {
+            sum += counter.unflushed.sum();
+        }
+        return sum;
+    }
+
+    private static final class ViewCounter {
+        /** 표시용 누적 조회수 */
+        private final LongAdder total = new LongAdder();
+        /** 마지막 flush 이후 증분 */
+        private final LongAdder unflushed = new LongAdder();
+
+        private void add(long count) {
+            total.add(count);
+            unflushed.add(count);
+        }
+    }
+
+    /** 조회자는 userId 또는 (비로그인) ip 중 하나 */
+    private record ViewKey(Long jobpostingId, Long userId, String ip) {
+    }
+}
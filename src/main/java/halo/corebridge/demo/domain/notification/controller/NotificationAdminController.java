@@ -0,0 +1,26 @@
+package halo.corebridge.demo.domain.notification.controller;
+
+import halo.corebridge.demo.common.response.BaseResponse;
+import halo.corebridge.demo.domain.notification.dto.NotificationDto;
+import halo.corebridge.demo.domain.notification.service.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 알림 관리자 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/notifications")
+public class NotificationAdminController {
+
+    private final NotificationRetentionService retentionService;
+
+    /** 보존 기간 정리 즉시 실행 */
+    @PostMapping("/retention/run")
+    public BaseResponse<NotificationDto.RetentionResult> runRetention() {
+        return BaseResponse.success(retentionService.run());
+    }
+}
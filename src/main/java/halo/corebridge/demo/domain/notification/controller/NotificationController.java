@@ -2,14 +2,17 @@ package halo.corebridge.demo.domain.notification.controller;
 
 import halo.corebridge.demo.common.response.BaseResponse;
 import halo.corebridge.demo.domain.notification.dto.NotificationDto;
+import halo.corebridge.demo.domain.notification.service.NotificationPushService;
 import halo.corebridge.demo.domain.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -19,6 +22,7 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationPushService pushService;
 
     @GetMapping
     public BaseResponse<Page<NotificationDto.Response>> getMyNotifications(
@@ -34,6 +38,12 @@ public class NotificationController {
         return BaseResponse.success(notificationService.getUnreadNotifications(userId, pageable));
     }
 
+    /** 새 알림 / 미읽음 수 변경을 SSE로 구독 (폴링 대체) */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@AuthenticationPrincipal Long userId) {
+        return pushService.subscribe(userId);
+    }
+
     @GetMapping("/unread-count")
     public BaseResponse<NotificationDto.UnreadCountResponse> getUnreadCount(
             @AuthenticationPrincipal Long userId) {
@@ -20,14 +20,6 @@ public class NotificationDto {
         @Size(max = 500) private String link;
         private Long relatedId;
         private String relatedType;
-
-        public Notification toEntity(Long id) {
-            return Notification.builder()
-                    .id(id).userId(userId).type(type)
-                    .title(title).message(message).link(link)
-                    .relatedId(relatedId).relatedType(relatedType)
-                    .isRead(false).build();
-        }
     }
 
     @Getter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -53,6 +45,18 @@ public class NotificationDto {
                     .createdAt(n.getCreatedAt())
                     .build();
         }
+
+        /** 아직 조회하지 않은 새 알림 (푸시용) */
+        public static Response of(Long id, CreateRequest request, LocalDateTime createdAt) {
+            return Response.builder()
+                    .id(id).type(request.getType())
+                    .typeDescription(request.getType().getDescription())
+                    .title(request.getTitle()).message(request.getMessage())
+                    .link(request.getLink()).isRead(false)
+                    .relatedId(request.getRelatedId()).relatedType(request.getRelatedType())
+                    .createdAt(createdAt)
+                    .build();
+        }
     }
 
     @Getter @NoArgsConstructor @AllArgsConstructor @Builder
@@ -62,16 +66,17 @@ public class NotificationDto {
     }
 
     @Getter @NoArgsConstructor @AllArgsConstructor @Builder
-    public static class CreateResponse {
-        private Long id;
-        private boolean success;
-        private String message;
+    public static class UnreadDeltaResponse {
+        private long delta;
+        public static UnreadDeltaResponse of(long delta) { return new UnreadDeltaResponse(delta); }
+    }
 
-        public static CreateResponse success(Long id) {
-            return CreateResponse.builder().id(id).success(true).message("알림이 생성되었습니다").build();
-        }
-        public static CreateResponse fail(String reason) {
-            return CreateResponse.builder().success(false).message(reason).build();
-        }
+    /** 보존 기간 정리 결과 */
+    @Getter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class RetentionResult {
+        private long expired;
+        private long collapsed;
+        private boolean archived;
+        private long elapsedMs;
     }
 }
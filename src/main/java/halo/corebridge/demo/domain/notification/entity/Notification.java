@@ -9,7 +9,9 @@ import lombok.*;
 @Table(name = "notifications", indexes = {
         @Index(name = "idx_noti_user_id", columnList = "userId"),
         @Index(name = "idx_noti_user_read", columnList = "userId, isRead"),
-        @Index(name = "idx_noti_created_at", columnList = "createdAt DESC")
+        @Index(name = "idx_noti_created_at", columnList = "createdAt DESC"),
+        @Index(name = "idx_noti_type_read_created", columnList = "type, isRead, createdAt"),
+        @Index(name = "idx_noti_type_related", columnList = "type, relatedId")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
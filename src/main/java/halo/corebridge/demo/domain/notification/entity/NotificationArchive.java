@@ -0,0 +1,54 @@
+package halo.corebridge.demo.domain.notification.entity;
+
+import halo.corebridge.demo.domain.notification.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지나 notifications에서 옮겨진 알림 (retention mode=ARCHIVE)
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = {
+        @Index(name = "idx_noti_archive_user_id", columnList = "userId")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    @Column(length = 500)
+    private String link;
+
+    @Column(nullable = false)
+    private boolean isRead;
+
+    private Long relatedId;
+
+    @Column(length = 50)
+    private String relatedType;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
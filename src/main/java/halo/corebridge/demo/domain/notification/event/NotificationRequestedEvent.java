@@ -0,0 +1,17 @@
+package halo.corebridge.demo.domain.notification.event;
+
+import halo.corebridge.demo.domain.notification.dto.NotificationDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 생성 요청 이벤트
+ *
+ * 발행한 트랜잭션이 커밋된 뒤 NotificationOutbox가 받아 비동기로 저장합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationRequestedEvent {
+
+    private final NotificationDto.CreateRequest request;
+}
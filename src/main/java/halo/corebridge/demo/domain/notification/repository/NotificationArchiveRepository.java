@@ -0,0 +1,20 @@
+package halo.corebridge.demo.domain.notification.repository;
+
+import halo.corebridge.demo.domain.notification.entity.NotificationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    @Modifying
+    @Query("INSERT INTO NotificationArchive (id, userId, type, title, message, link, isRead, " +
+            "relatedId, relatedType, createdAt, archivedAt) " +
+            "SELECT n.id, n.userId, n.type, n.title, n.message, n.link, n.isRead, " +
+            "n.relatedId, n.relatedType, n.createdAt, :archivedAt FROM Notification n WHERE n.id IN :ids")
+    int archiveByIds(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,11 @@
+package halo.corebridge.demo.domain.notification.repository;
+
+/**
+ * 정리 대상 알림의 id와 소유자
+ */
+public interface NotificationKeyView {
+
+    Long getId();
+
+    Long getUserId();
+}
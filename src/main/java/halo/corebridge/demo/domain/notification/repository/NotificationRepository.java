@@ -1,6 +1,7 @@
 package halo.corebridge.demo.domain.notification.repository;
 
 import halo.corebridge.demo.domain.notification.entity.Notification;
+import halo.corebridge.demo.domain.notification.enums.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -22,7 +24,35 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
     int markAllAsReadByUserId(@Param("userId") Long userId);
 
+    /** 미읽음일 때만 읽음 처리 (동시에 여러 번 호출돼도 1을 받는 건 한 번) */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.id = :id AND n.userId = :userId AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") Long id, @Param("userId") Long userId);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
     List<Notification> findTop10ByUserIdOrderByCreatedAtDesc(Long userId);
 
     List<Notification> findByRelatedIdAndRelatedType(Long relatedId, String relatedType);
+
+    // ============================================
+    // 보존 기간 정리 (batch 단위)
+    // ============================================
+
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.isRead = true " +
+            "AND n.createdAt < :cutoff ORDER BY n.id")
+    List<Long> findExpiredReadIds(@Param("type") NotificationType type,
+                                  @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /** 같은 relatedId의 최신 1건을 제외한 이전 알림 */
+    @Query("SELECT n.id AS id, n.userId AS userId FROM Notification n " +
+            "WHERE n.type = :type AND n.relatedId IS NOT NULL AND n.id < " +
+            "(SELECT MAX(m.id) FROM Notification m WHERE m.type = n.type AND m.relatedId = n.relatedId) " +
+            "ORDER BY n.id")
+    List<NotificationKeyView> findSupersededKeys(@Param("type") NotificationType type, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
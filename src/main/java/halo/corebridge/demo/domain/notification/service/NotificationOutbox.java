@@ -0,0 +1,432 @@
+package halo.corebridge.demo.domain.notification.service;
+
+import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.domain.notification.dto.NotificationDto;
+import halo.corebridge.demo.domain.notification.event.NotificationRequestedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인프로세스 알림 아웃박스
+ *
+ * 커밋된 NotificationRequestedEvent를 bounded queue에 넣고,
+ * 백그라운드 writer 스레드가 모아서 JDBC batch insert로 저장합니다.
+ * 상태 전이 등 호출 측 트랜잭션은 알림 저장 시간을 기다리지 않습니다.
+ *
+ * 큐가 가득 차면 호출 스레드에서 바로 저장하고(유실 방지), 종료 시에는 남은 알림을 모두 저장한 뒤 멈춥니다.
+ * 저장이 실패하면 batch를 backoff 후 다시 시도하고, 그래도 안 되면 건별로 저장합니다.
+ *
+ * 같은 (userId, relatedType, relatedId) 알림은 coalesceWindowMs 동안 하나로 합칩니다.
+ * 한 배치 안의 중복은 마지막 것만 남기고, 창 안에 이미 저장된 미읽음 알림이 있으면
+ * insert 대신 그 행을 최신 내용으로 update 합니다 (이미 읽었거나 삭제됐으면 새로 insert).
+ */
+@Slf4j
+@Component
+public class NotificationOutbox implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications " +
+            "(id, user_id, type, title, message, link, is_read, related_id, related_type, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?)";
+
+    private static final String COALESCE_SQL = "UPDATE notifications " +
+            "SET type = ?, title = ?, message = ?, link = ?, created_at = ?, updated_at = ? " +
+            "WHERE id = ? AND user_id = ? AND is_read = FALSE";
+
+    private final Snowflake snowflake;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final NotificationOutboxProperties properties;
+    private final NotificationPushService pushService;
+    private final UnreadCountCache unreadCountCache;
+    private final BlockingQueue<Entry> queue;
+    /** 최근 insert한 알림: 키 → (id, 창 시작 시각) */
+    private final Map<CoalesceKey, Pending> pending = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer lagTimer;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final Counter coalescedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public NotificationOutbox(Snowflake snowflake, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              NotificationOutboxProperties properties, NotificationPushService pushService,
+                              UnreadCountCache unreadCountCache, MeterRegistry meterRegistry) {
+        this.snowflake = snowflake;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.pushService = pushService;
+        this.unreadCountCache = unreadCountCache;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        Gauge.builder("notification.outbox.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("notification.outbox.batch.size")
+                .description("batch insert 한 번에 저장한 알림 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("notification.outbox.lag")
+                .description("커밋 후 알림이 저장되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("notification.outbox.overflow")
+                .description("큐가 가득 차 호출 스레드에서 저장한 알림 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.outbox.failed")
+                .description("재시도 후에도 저장하지 못해 버린 알림 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("notification.outbox.coalesced")
+                .description("기존 알림에 합쳐져 새 행을 만들지 않은 알림 수")
+                .register(meterRegistry);
+    }
+
+    /** 발행 트랜잭션 커밋 후 (트랜잭션 밖에서 발행되면 즉시) 큐에 적재 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRequested(NotificationRequestedEvent event) {
+        Entry entry = new Entry(event.getRequest(), System.nanoTime(), LocalDateTime.now());
+        if (running && queue.offer(entry)) {
+            return;
+        }
+        overflowCounter.increment();
+        write(List.of(entry));
+    }
+
+    // ============================================
+    // SmartLifecycle
+    // ============================================
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("notification-outbox").daemon(true).start(this::drainLoop);
+    }
+
+    /** 새 알림은 호출 스레드에서 저장하도록 돌리고, 남은 큐를 비울 때까지 기다림 */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(properties.getDrainTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("알림 아웃박스 종료: 저장하지 못한 알림 {}건", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버가 요청 수신을 멈춘 뒤에 정지 */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // ============================================
+    // Writer
+    // ============================================
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // writer가 멈추면 모든 알림이 overflow 경로로 가므로 기록만 하고 계속
+                log.error("알림 아웃박스 writer 오류: count={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Entry> batch) {
+        List<Entry> entries = coalesceInBatch(batch);
+        List<Written> written = persistWithRetry(entries);
+
+        long now = System.nanoTime();
+        for (Entry entry : batch) {
+            lagTimer.record(now - entry.getEnqueuedNanos(), TimeUnit.NANOSECONDS);
+        }
+        batchSizeSummary.record(batch.size());
+
+        int inserted = 0;
+        for (Written w : written) {
+            NotificationDto.CreateRequest request = w.getEntry().getRequest();
+            NotificationDto.Response response =
+                    NotificationDto.Response.of(w.getId(), request, w.getEntry().getCreatedAt());
+            if (!w.isInserted()) {
+                // 미읽음 알림을 갱신한 것이므로 미읽음 수는 그대로
+                pushService.pushNotificationUpdate(request.getUserId(), response);
+                continue;
+            }
+            inserted++;
+            unreadCountCache.add(request.getUserId(), 1);
+            pushService.pushNotification(request.getUserId(), response);
+        }
+        int dropped = entries.size() - written.size();
+        coalescedCounter.increment(batch.size() - inserted - dropped);
+        log.debug("알림 {}건 저장 (신규 {}건, 실패 {}건)", batch.size(), inserted, dropped);
+    }
+
+    /**
+     * 일시적인 DB 오류는 batch 전체를 backoff를 두고 retryAttempts번까지 다시 시도하고,
+     * 그래도 실패하면 건별 트랜잭션으로 나누어 저장해 문제가 있는 알림만 버립니다.
+     * (실패한 트랜잭션은 롤백되므로 다시 시도해도 중복 저장되지 않음)
+     * lock은 시도 한 번 동안만 잡으므로 backoff 중에는 overflow 경로가 기다리지 않습니다.
+     */
+    private List<Written> persistWithRetry(List<Entry> entries) {
+        int attempts = Math.max(1, properties.getRetryAttempts());
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                return persistLocked(entries);
+            } catch (RuntimeException e) {
+                log.warn("알림 저장 실패 ({}/{}): count={}, error={}", attempt, attempts, entries.size(), e.getMessage());
+                if (attempt < attempts && !sleep(properties.getRetryBackoffMs() << (attempt - 1))) {
+                    break;
+                }
+            }
+        }
+
+        List<Written> written = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            try {
+                written.addAll(persistLocked(List.of(entry)));
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("알림 저장 실패로 버림: userId={}, type={}, error={}",
+                        entry.getRequest().getUserId(), entry.getRequest().getType(), e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 저장 한 번 + 새로 insert한 알림을 합치기 대상으로 기억.
+     * writer 스레드와 overflow 경로가 같은 키를 동시에 insert하지 않도록 이 구간만 직렬화합니다.
+     */
+    private List<Written> persistLocked(List<Entry> entries) {
+        synchronized (writeLock) {
+            List<Written> written = writeTransaction.execute(status -> persist(entries));
+            if (coalescing()) {
+                long windowStart = System.currentTimeMillis();
+                for (Written w : written) {
+                    CoalesceKey key = w.isInserted() ? CoalesceKey.of(w.getEntry().getRequest()) : null;
+                    if (key != null) {
+                        pending.put(key, new Pending(w.getId(), windowStart));
+                    }
+                }
+                prunePending(windowStart);
+            }
+            return written;
+        }
+    }
+
+    /** @return 인터럽트되면 false */
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 창 안의 미읽음 알림은 update, 나머지(또는 update 대상이 사라진 경우)는 insert
+     */
+    private List<Written> persist(List<Entry> entries) {
+        long nowMillis = System.currentTimeMillis();
+        List<Entry> updates = new ArrayList<>();
+        List<Long> updateIds = new ArrayList<>();
+        List<Entry> inserts = new ArrayList<>();
+        for (Entry entry : entries) {
+            CoalesceKey key = coalescing() ? CoalesceKey.of(entry.getRequest()) : null;
+            Pending p = key != null ? pending.get(key) : null;
+            if (p != null && nowMillis - p.getWindowStart() < properties.getCoalesceWindowMs()) {
+                updates.add(entry);
+                updateIds.add(p.getId());
+            } else {
+                inserts.add(entry);
+            }
+        }
+
+        List<Written> written = new ArrayList<>(entries.size());
+        if (!updates.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(COALESCE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    NotificationDto.CreateRequest request = updates.get(i).getRequest();
+                    Timestamp createdAt = Timestamp.valueOf(updates.get(i).getCreatedAt());
+                    ps.setString(1, request.getType().name());
+                    ps.setString(2, request.getTitle());
+                    ps.setString(3, request.getMessage());
+                    ps.setString(4, request.getLink());
+                    ps.setTimestamp(5, createdAt);
+                    ps.setTimestamp(6, createdAt);
+                    ps.setLong(7, updateIds.get(i));
+                    ps.setLong(8, request.getUserId());
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return updates.size();
+                }
+            });
+            for (int i = 0; i < updates.size(); i++) {
+                if (counts[i] == 0) {
+                    inserts.add(updates.get(i));
+                } else {
+                    written.add(new Written(updates.get(i), updateIds.get(i), false));
+                }
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            long[] ids = snowflake.nextIds(inserts.size());
+            jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Entry entry = inserts.get(i);
+                    NotificationDto.CreateRequest request = entry.getRequest();
+                    Timestamp createdAt = Timestamp.valueOf(entry.getCreatedAt());
+                    ps.setLong(1, ids[i]);
+                    ps.setLong(2, request.getUserId());
+                    ps.setString(3, request.getType().name());
+                    ps.setString(4, request.getTitle());
+                    ps.setString(5, request.getMessage());
+                    ps.setString(6, request.getLink());
+                    ps.setObject(7, request.getRelatedId());
+                    ps.setString(8, request.getRelatedType());
+                    ps.setTimestamp(9, createdAt);
+                    ps.setTimestamp(10, createdAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return inserts.size();
+                }
+            });
+            for (int i = 0; i < inserts.size(); i++) {
+                written.add(new Written(inserts.get(i), ids[i], true));
+            }
+        }
+        return written;
+    }
+
+    /** 한 배치 안에서 같은 키는 마지막 알림만 남김 (순서는 마지막 발생 기준) */
+    private List<Entry> coalesceInBatch(List<Entry> batch) {
+        if (!coalescing() || batch.size() < 2) {
+            return batch;
+        }
+        Map<Object, Entry> latest = new LinkedHashMap<>();
+        for (Entry entry : batch) {
+            CoalesceKey key = CoalesceKey.of(entry.getRequest());
+            Object k = key != null ? key : entry;
+            latest.remove(k);
+            latest.put(k, entry);
+        }
+        return latest.size() == batch.size() ? batch : new ArrayList<>(latest.values());
+    }
+
+    private void prunePending(long nowMillis) {
+        if (pending.size() <= properties.getCoalesceMaxKeys()) {
+            return;
+        }
+        pending.values().removeIf(p -> nowMillis - p.getWindowStart() >= properties.getCoalesceWindowMs());
+        if (pending.size() > properties.getCoalesceMaxKeys()) {
+            pending.clear();
+        }
+    }
+
+    private boolean coalescing() {
+        return properties.getCoalesceWindowMs() > 0;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry {
+        private final NotificationDto.CreateRequest request;
+        private final long enqueuedNanos;
+        private final LocalDateTime createdAt;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Written {
+        private final Entry entry;
+        private final long id;
+        private final boolean inserted;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Pending {
+        private final long id;
+        private final long windowStart;
+    }
+
+    /** 대상 엔티티가 없는 알림(relatedId 없음)은 합치지 않음 */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class CoalesceKey {
+        private final long userId;
+        private final String relatedType;
+        private final long relatedId;
+
+        private static CoalesceKey of(NotificationDto.CreateRequest request) {
+            if (request.getRelatedId() == null) {
+                return null;
+            }
+            return new CoalesceKey(request.getUserId(), request.getRelatedType(), request.getRelatedId());
+        }
+    }
+}
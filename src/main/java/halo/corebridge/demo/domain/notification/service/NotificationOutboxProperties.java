@@ -0,0 +1,37 @@
+package halo.corebridge.demo.domain.notification.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.outbox")
+public class NotificationOutboxProperties {
+
+    /** 대기열 최대 길이 (가득 차면 호출 스레드에서 바로 저장) */
+    private int capacity = 10000;
+
+    /** 한 번에 batch insert할 최대 건수 */
+    private int batchSize = 200;
+
+    /** batch 저장 실패 시 최대 시도 횟수 (모두 실패하면 건별로 저장) */
+    private int retryAttempts = 3;
+
+    /** 재시도 간격 (ms, 시도마다 2배) */
+    private long retryBackoffMs = 100;
+
+    /** 종료 시 남은 알림을 저장하며 기다리는 최대 시간 (ms) */
+    private long drainTimeoutMs = 10000;
+
+    /**
+     * 같은 (userId, relatedType, relatedId) 알림을 하나로 합치는 시간 창 (ms, 0이면 비활성)
+     * 창 안에서는 새 행을 넣지 않고 아직 읽지 않은 기존 알림을 최신 내용으로 갱신합니다.
+     */
+    private long coalesceWindowMs = 60000;
+
+    /** 합치기 대상으로 기억하는 최대 키 수 (넘으면 만료된 키부터 정리) */
+    private int coalesceMaxKeys = 10000;
+}
@@ -0,0 +1,192 @@
+package halo.corebridge.demo.domain.notification.service;
+
+import halo.corebridge.demo.domain.notification.dto.NotificationDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 SSE 푸시 (사용자별 구독 레지스트리)
+ *
+ * 대시보드는 구독 시 미읽음 수(캐시)를 한 번 받고, 이후에는 새 알림과 미읽음 증감만 푸시로 받습니다.
+ * 기존 알림에 합쳐진 알림은 같은 id의 notification-update로 보내며 미읽음 수는 바뀌지 않습니다.
+ * 전송은 구독자별 대기열을 가상 스레드가 순서대로 비우며, 대기열이 넘치는 느린 연결은 끊습니다.
+ * (EventSource는 끊기면 자동 재연결)
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final int MAX_SESSIONS_PER_USER = 5;
+    private static final int MAX_PENDING_EVENTS = 64;
+
+    private final UnreadCountCache unreadCountCache;
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public NotificationPushService(UnreadCountCache unreadCountCache, MeterRegistry meterRegistry) {
+        this.unreadCountCache = unreadCountCache;
+        Gauge.builder("notification.push.sessions", sessionCount, AtomicInteger::get)
+                .description("연결된 알림 SSE 세션 수")
+                .register(meterRegistry);
+    }
+
+    // ============================================
+    // 구독
+    // ============================================
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        List<Subscriber> sessions = subscribers.compute(userId, (id, list) -> {
+            List<Subscriber> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(subscriber);
+            return target;
+        });
+        sessionCount.incrementAndGet();
+        // 사용자당 세션 수 제한: 가장 오래된 연결부터 종료
+        while (sessions.size() > MAX_SESSIONS_PER_USER) {
+            close(sessions.get(0));
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscriber.enqueue(SseEmitter.event().name("unread-count")
+                .data(NotificationDto.UnreadCountResponse.of(unreadCountCache.get(userId))));
+        return emitter;
+    }
+
+    // ============================================
+    // 푸시
+    // ============================================
+
+    public void pushNotification(Long userId, NotificationDto.Response notification) {
+        send(userId, SseEmitter.event().name("notification").id(String.valueOf(notification.getId()))
+                .data(notification));
+        pushUnreadDelta(userId, 1);
+    }
+
+    /** 합쳐진 알림: 클라이언트가 가진 같은 id의 알림을 최신 내용으로 교체 (미읽음 수 변화 없음) */
+    public void pushNotificationUpdate(Long userId, NotificationDto.Response notification) {
+        send(userId, SseEmitter.event().name("notification-update").id(String.valueOf(notification.getId()))
+                .data(notification));
+    }
+
+    public void pushUnreadDelta(Long userId, long delta) {
+        send(userId, SseEmitter.event().name("unread-delta")
+                .data(NotificationDto.UnreadDeltaResponse.of(delta)));
+    }
+
+    public void pushUnreadCount(Long userId, long count) {
+        send(userId, SseEmitter.event().name("unread-count")
+                .data(NotificationDto.UnreadCountResponse.of(count)));
+    }
+
+    /** 프록시/로드밸런서의 idle timeout으로 끊기지 않도록 주석 이벤트 전송 */
+    @Scheduled(fixedDelay = 25000)
+    public void heartbeat() {
+        for (List<Subscriber> sessions : subscribers.values()) {
+            for (Subscriber subscriber : sessions) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(sessions -> sessions.forEach(this::close));
+        sender.shutdown();
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    private void send(Long userId, SseEmitter.SseEventBuilder event) {
+        List<Subscriber> sessions = subscribers.get(userId);
+        if (sessions == null) {
+            return;
+        }
+        for (Subscriber subscriber : sessions) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, sessions) -> {
+            if (sessions.remove(subscriber)) {
+                sessionCount.decrementAndGet();
+            }
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /** 연결 하나: 이벤트를 순서대로 한 번에 한 스레드만 전송 */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > MAX_PENDING_EVENTS) {
+                log.debug("알림 SSE 대기열 초과로 연결 종료: userId={}", userId);
+                close(this);
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (Exception e) {
+                        remove(this);
+                        pending.clear();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package halo.corebridge.demo.domain.notification.service;
+
+import halo.corebridge.demo.domain.notification.enums.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.retention")
+public class NotificationRetentionProperties {
+
+    public enum Mode { DELETE, ARCHIVE }
+
+    private boolean enabled = true;
+
+    /** DELETE: 바로 삭제, ARCHIVE: notifications_archive로 옮긴 뒤 삭제 */
+    private Mode mode = Mode.DELETE;
+
+    /** 한 트랜잭션에서 처리할 최대 건수 (락 유지 시간 제한) */
+    private int batchSize = 500;
+
+    /** 읽은 알림 기본 보존 기간 */
+    private Duration defaultTtl = Duration.ofDays(30);
+
+    /** 타입별 보존 기간 (미지정 타입은 defaultTtl) */
+    private Map<NotificationType, Duration> ttl = new EnumMap<>(NotificationType.class);
+
+    /** 같은 relatedId의 PROCESS_UPDATE를 최신 1건으로 합침 */
+    private boolean collapseProcessUpdates = true;
+
+    public Duration ttlOf(NotificationType type) {
+        return ttl.getOrDefault(type, defaultTtl);
+    }
+}
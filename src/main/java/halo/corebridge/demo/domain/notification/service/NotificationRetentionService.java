@@ -0,0 +1,151 @@
+package halo.corebridge.demo.domain.notification.service;
+
+import halo.corebridge.demo.common.transaction.AfterCommit;
+import halo.corebridge.demo.domain.notification.dto.NotificationDto;
+import halo.corebridge.demo.domain.notification.enums.NotificationType;
+import halo.corebridge.demo.domain.notification.repository.NotificationArchiveRepository;
+import halo.corebridge.demo.domain.notification.repository.NotificationKeyView;
+import halo.corebridge.demo.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 보존 기간 정리
+ *
+ * 1) 타입별 TTL이 지난 읽은 알림을 삭제(또는 보관 테이블로 이동)
+ * 2) 같은 지원 건(relatedId)의 PROCESS_UPDATE는 최신 1건만 남김
+ *
+ * batchSize 단위로 짧은 트랜잭션을 반복하므로 테이블을 오래 잠그지 않습니다.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository archiveRepository;
+    private final NotificationRetentionProperties properties;
+    private final UnreadCountCache unreadCountCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter expiredCounter;
+    private final Counter collapsedCounter;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        NotificationArchiveRepository archiveRepository,
+                                        NotificationRetentionProperties properties,
+                                        UnreadCountCache unreadCountCache,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.archiveRepository = archiveRepository;
+        this.properties = properties;
+        this.unreadCountCache = unreadCountCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expiredCounter = Counter.builder("notification.retention.reclaimed")
+                .tag("reason", "expired").register(meterRegistry);
+        this.collapsedCounter = Counter.builder("notification.retention.reclaimed")
+                .tag("reason", "collapsed").register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${notification.retention.interval-ms:3600000}",
+            fixedDelayString = "${notification.retention.interval-ms:3600000}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            run();
+        }
+    }
+
+    /**
+     * 정리 1회 실행 (이미 실행 중이면 건너뜀)
+     */
+    public NotificationDto.RetentionResult run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("알림 정리가 이미 실행 중입니다");
+            return NotificationDto.RetentionResult.builder().build();
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            long expired = purgeExpired();
+            long collapsed = properties.isCollapseProcessUpdates() ? collapseProcessUpdates() : 0;
+            NotificationDto.RetentionResult result = NotificationDto.RetentionResult.builder()
+                    .expired(expired)
+                    .collapsed(collapsed)
+                    .archived(properties.getMode() == NotificationRetentionProperties.Mode.ARCHIVE)
+                    .elapsedMs(System.currentTimeMillis() - startedAt)
+                    .build();
+            log.info("알림 정리 완료: expired={}, collapsed={}, mode={}, elapsedMs={}",
+                    expired, collapsed, properties.getMode(), result.getElapsedMs());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    private long purgeExpired() {
+        long total = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationType type : NotificationType.values()) {
+            LocalDateTime cutoff = now.minus(properties.ttlOf(type));
+            int reclaimed;
+            do {
+                reclaimed = transactionTemplate.execute(status -> reclaim(
+                        notificationRepository.findExpiredReadIds(type, cutoff, firstBatch())));
+                total += reclaimed;
+            } while (reclaimed == properties.getBatchSize());
+        }
+        expiredCounter.increment(total);
+        return total;
+    }
+
+    private long collapseProcessUpdates() {
+        long total = 0;
+        int reclaimed;
+        do {
+            reclaimed = transactionTemplate.execute(status -> {
+                List<NotificationKeyView> keys = notificationRepository
+                        .findSupersededKeys(NotificationType.PROCESS_UPDATE, firstBatch());
+                int count = reclaim(keys.stream().map(NotificationKeyView::getId).toList());
+                // 미읽음 알림이 합쳐졌을 수 있으므로 해당 사용자 캐시는 다시 적재
+                // (커밋 전에 비우면 동시 조회가 삭제 전 값을 다시 채울 수 있으므로 커밋 후)
+                Set<Long> userIds = new HashSet<>();
+                keys.forEach(key -> userIds.add(key.getUserId()));
+                AfterCommit.run(() -> userIds.forEach(unreadCountCache::evict));
+                return count;
+            });
+            total += reclaimed;
+        } while (reclaimed == properties.getBatchSize());
+        collapsedCounter.increment(total);
+        return total;
+    }
+
+    private int reclaim(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (properties.getMode() == NotificationRetentionProperties.Mode.ARCHIVE) {
+            archiveRepository.archiveByIds(ids, LocalDateTime.now());
+        }
+        return notificationRepository.deleteByIds(ids);
+    }
+
+    private PageRequest firstBatch() {
+        return PageRequest.of(0, properties.getBatchSize());
+    }
+}
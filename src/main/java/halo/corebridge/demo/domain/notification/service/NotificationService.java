@@ -1,8 +1,7 @@
 package halo.corebridge.demo.domain.notification.service;
 
-import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.common.transaction.AfterCommit;
 import halo.corebridge.demo.domain.notification.dto.NotificationDto;
-import halo.corebridge.demo.domain.notification.entity.Notification;
 import halo.corebridge.demo.domain.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,28 +12,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * 알림 조회 / 읽음 처리
+ *
+ * 알림 저장은 NotificationRequestedEvent → NotificationOutbox 한 경로로만 합니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 @Slf4j
 public class NotificationService {
 
-    private final Snowflake snowflake;
     private final NotificationRepository notificationRepository;
-
-    @Transactional
-    public NotificationDto.CreateResponse create(NotificationDto.CreateRequest request) {
-        try {
-            Notification notification = request.toEntity(snowflake.nextId());
-            Notification saved = notificationRepository.save(notification);
-            log.info("알림 생성: userId={}, type={}, id={}",
-                    request.getUserId(), request.getType(), saved.getId());
-            return NotificationDto.CreateResponse.success(saved.getId());
-        } catch (Exception e) {
-            log.error("알림 생성 실패: userId={}, error={}", request.getUserId(), e.getMessage());
-            return NotificationDto.CreateResponse.fail(e.getMessage());
-        }
-    }
+    private final NotificationPushService pushService;
+    private final UnreadCountCache unreadCountCache;
 
     public Page<NotificationDto.Response> getMyNotifications(Long userId, Pageable pageable) {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
@@ -47,8 +38,7 @@ public class NotificationService {
     }
 
     public NotificationDto.UnreadCountResponse getUnreadCount(Long userId) {
-        return NotificationDto.UnreadCountResponse.of(
-                notificationRepository.countByUserIdAndIsReadFalse(userId));
+        return NotificationDto.UnreadCountResponse.of(unreadCountCache.get(userId));
     }
 
     public List<NotificationDto.Response> getRecentNotifications(Long userId) {
@@ -58,16 +48,25 @@ public class NotificationService {
 
     @Transactional
     public boolean markAsRead(Long userId, Long notificationId) {
-        return notificationRepository.findById(notificationId)
-                .filter(n -> n.getUserId().equals(userId))
-                .map(n -> { n.markAsRead(); return true; })
-                .orElse(false);
+        // 조건부 update가 1건을 바꾼 경우에만 감소 (동시 읽음 처리로 두 번 빼지 않도록)
+        if (notificationRepository.markAsReadIfUnread(notificationId, userId) == 1) {
+            AfterCommit.run(() -> {
+                unreadCountCache.add(userId, -1);
+                pushService.pushUnreadDelta(userId, -1);
+            });
+            return true;
+        }
+        return notificationRepository.existsByIdAndUserId(notificationId, userId);
     }
 
     @Transactional
     public int markAllAsRead(Long userId) {
         int count = notificationRepository.markAllAsReadByUserId(userId);
         log.info("모든 알림 읽음 처리: userId={}, count={}", userId, count);
+        AfterCommit.run(() -> {
+            unreadCountCache.set(userId, 0);
+            pushService.pushUnreadCount(userId, 0);
+        });
         return count;
     }
 
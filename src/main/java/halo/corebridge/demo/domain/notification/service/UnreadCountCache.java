@@ -0,0 +1,110 @@
+package halo.corebridge.demo.domain.notification.service;
+
+import halo.corebridge.demo.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 미읽음 알림 수 캐시
+ *
+ * 없으면 COUNT 한 번으로 적재하고, 이후에는 알림 저장/읽음 처리 시 커밋 후 증감합니다.
+ * 적재되지 않은 사용자의 증감은 건너뛰며(다음 조회 때 DB에서 적재), 최대 크기를 넘으면 임의 항목부터 비웁니다.
+ *
+ * 적재 COUNT와 커밋 후 증감이 겹치면 값이 어긋날 수 있으므로, 적재 후 ttlMs가 지난 항목은 다시 COUNT 합니다.
+ */
+@Component
+public class UnreadCountCache {
+
+    private final NotificationRepository notificationRepository;
+    private final int maxSize;
+    private final long ttlMs;
+    private final Map<Long, Entry> counts = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UnreadCountCache(NotificationRepository notificationRepository,
+                            @Value("${notification.unread-cache.max-size:10000}") int maxSize,
+                            @Value("${notification.unread-cache.ttl-ms:300000}") long ttlMs,
+                            MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.hitCounter = Counter.builder("notification.unread.cache")
+                .tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("notification.unread.cache")
+                .tag("result", "miss").register(meterRegistry);
+        Gauge.builder("notification.unread.cache.size", counts, Map::size).register(meterRegistry);
+    }
+
+    public long get(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = counts.get(userId);
+        if (entry != null) {
+            if (now - entry.loadedAt < ttlMs) {
+                hitCounter.increment();
+                return entry.count.get();
+            }
+            counts.remove(userId, entry);
+        }
+        missCounter.increment();
+        evictIfFull();
+        return counts.computeIfAbsent(userId,
+                id -> new Entry(notificationRepository.countByUserIdAndIsReadFalse(id), now)).count.get();
+    }
+
+    /** 적재된 사용자만 증감 (음수로 내려가지 않음) */
+    public void add(Long userId, long delta) {
+        counts.computeIfPresent(userId, (id, entry) -> {
+            entry.count.updateAndGet(value -> Math.max(0, value + delta));
+            return entry;
+        });
+    }
+
+    /** 모두 읽음 처리 등 값을 확실히 아는 경우 */
+    public void set(Long userId, long value) {
+        evictIfFull();
+        counts.put(userId, new Entry(value, System.currentTimeMillis()));
+    }
+
+    /** 일괄 삭제 등으로 값을 알 수 없을 때 다음 조회에서 다시 적재 */
+    public void evict(Long userId) {
+        counts.remove(userId);
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    private void evictIfFull() {
+        if (counts.size() < maxSize) {
+            return;
+        }
+        // 최대 크기의 1/10을 비움 (ConcurrentHashMap 순회 순서 = 사실상 임의)
+        int toRemove = Math.max(1, maxSize / 10);
+        Iterator<Long> it = counts.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final AtomicLong count;
+        /** 값을 DB 기준으로 확정한 시각 (ms) */
+        private final long loadedAt;
+
+        private Entry(long count, long loadedAt) {
+            this.count = new AtomicLong(count);
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -11,6 +11,12 @@ import java.util.List;
 
 public class ResumeDto {
 
+    /** 스킬 목록 → 스킬 컬럼(JSON 배열 문자열) */
+    public static String toSkillsJson(List<String> skills) {
+        if (skills == null || skills.isEmpty()) return null;
+        return "[\"" + String.join("\",\"", skills) + "\"]";
+    }
+
     @Getter
     public static class UpdateRequest {
         private String title;
@@ -55,7 +55,7 @@ public class ResumeService {
 
         resume.update(request.getTitle(), request.getContent());
         if (request.getSkills() != null) {
-            resume.updateSkills(toJson(request.getSkills()));
+            resume.updateSkills(ResumeDto.toSkillsJson(request.getSkills()));
         }
         resumeRepository.save(resume);
 
@@ -138,9 +138,4 @@ public class ResumeService {
         log.info("AI 분석 결과 저장: resumeId={}", resumeId);
         return ResumeDto.ResumeResponse.from(resume);
     }
-
-    private String toJson(List<String> skills) {
-        if (skills == null || skills.isEmpty()) return null;
-        return "[\"" + String.join("\",\"", skills) + "\"]";
-    }
 }
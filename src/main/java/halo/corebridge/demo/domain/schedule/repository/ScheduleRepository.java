@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
@@ -40,7 +41,9 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     List<Schedule> findByApplyIdOrderByStartTimeAsc(Long applyId);
 
-    // 충돌 체크
+    // 충돌 체크 (슬롯 인덱스 적재 전에만 사용)
+    List<Schedule> findByStatusIn(Collection<ScheduleStatus> statuses);
+
     @Query("SELECT s FROM Schedule s WHERE s.interviewerId = :interviewerId " +
             "AND s.status IN (halo.corebridge.demo.domain.schedule.enums.ScheduleStatus.SCHEDULED, " +
             "halo.corebridge.demo.domain.schedule.enums.ScheduleStatus.IN_PROGRESS) " +
@@ -3,15 +3,17 @@ package halo.corebridge.demo.domain.schedule.service;
 import halo.corebridge.demo.common.exception.BaseException;
 import halo.corebridge.demo.common.response.BaseResponseStatus;
 import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.common.transaction.AfterCommit;
 import halo.corebridge.demo.domain.notification.dto.NotificationDto;
 import halo.corebridge.demo.domain.notification.enums.NotificationType;
-import halo.corebridge.demo.domain.notification.service.NotificationService;
+import halo.corebridge.demo.domain.notification.event.NotificationRequestedEvent;
 import halo.corebridge.demo.domain.schedule.dto.ScheduleDto;
 import halo.corebridge.demo.domain.schedule.entity.Schedule;
 import halo.corebridge.demo.domain.schedule.enums.ScheduleStatus;
 import halo.corebridge.demo.domain.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,9 +26,13 @@ import java.util.List;
 @Slf4j
 public class ScheduleService {
 
+    private static final String APPLICANT_CONFLICT = "지원자가 해당 시간에 다른 일정이 있습니다";
+    private static final String INTERVIEWER_CONFLICT = "면접관이 해당 시간에 다른 일정이 있습니다";
+
     private final Snowflake snowflake;
     private final ScheduleRepository scheduleRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleSlotIndex slotIndex;
 
     @Transactional
     public ScheduleDto.Response create(Long companyId, ScheduleDto.CreateRequest request) {
@@ -51,6 +57,7 @@ public class ScheduleService {
                 .status(ScheduleStatus.SCHEDULED).build();
 
         scheduleRepository.save(schedule);
+        AfterCommit.run(() -> slotIndex.put(schedule));
         log.info("일정 생성: id={}, type={}", schedule.getId(), schedule.getType());
 
         sendScheduleNotification(schedule.getUserId(), "일정이 등록되었습니다: " + schedule.getTitle(), schedule.getId());
@@ -78,6 +85,7 @@ public class ScheduleService {
         schedule.update(request.getTitle(), request.getDescription(), request.getLocation(),
                 request.getStartTime(), request.getEndTime(),
                 request.getInterviewerId(), request.getInterviewerName());
+        AfterCommit.run(() -> slotIndex.put(schedule));
         log.info("일정 수정: id={}", scheduleId);
 
         sendScheduleNotification(schedule.getUserId(), "일정이 변경되었습니다: " + schedule.getTitle(), scheduleId);
@@ -89,6 +97,7 @@ public class ScheduleService {
         Schedule schedule = findById(scheduleId);
         validateCompanyOwner(schedule, companyId);
         schedule.updateStatus(request.getStatus());
+        AfterCommit.run(() -> slotIndex.put(schedule));
         log.info("일정 상태 변경: id={}, status={}", scheduleId, request.getStatus());
 
         if (request.getStatus() == ScheduleStatus.CANCELLED) {
@@ -103,6 +112,7 @@ public class ScheduleService {
         validateCompanyOwner(schedule, companyId);
         sendScheduleNotification(schedule.getUserId(), "일정이 삭제되었습니다: " + schedule.getTitle(), scheduleId);
         scheduleRepository.delete(schedule);
+        AfterCommit.run(() -> slotIndex.remove(scheduleId));
         log.info("일정 삭제: id={}", scheduleId);
     }
 
@@ -158,30 +168,48 @@ public class ScheduleService {
                 .map(ScheduleDto.Response::from).toList();
     }
 
-    // 충돌 체크
+    /**
+     * 충돌 체크
+     *
+     * 슬롯 인덱스(메모리)로 검사하고, 기동 직후 인덱스 적재 전에만 DB 범위 쿼리를 사용합니다.
+     */
     @Transactional(readOnly = true)
     public ScheduleDto.ConflictCheckResponse checkConflicts(Long userId, Long interviewerId,
                                                             LocalDateTime start, LocalDateTime end, Long excludeId) {
         List<ScheduleDto.ConflictCheckResponse.ConflictDetail> conflicts = new ArrayList<>();
 
-        scheduleRepository.findApplicantConflicts(userId, start, end, excludeId).forEach(c ->
-                conflicts.add(ScheduleDto.ConflictCheckResponse.ConflictDetail.builder()
-                        .type("APPLICANT").scheduleId(c.getId()).title(c.getTitle())
-                        .startTime(c.getStartTime()).endTime(c.getEndTime())
-                        .message("지원자가 해당 시간에 다른 일정이 있습니다").build()));
-
-        if (interviewerId != null) {
-            scheduleRepository.findInterviewerConflicts(interviewerId, start, end, excludeId).forEach(c ->
-                    conflicts.add(ScheduleDto.ConflictCheckResponse.ConflictDetail.builder()
-                            .type("INTERVIEWER").scheduleId(c.getId()).title(c.getTitle())
-                            .startTime(c.getStartTime()).endTime(c.getEndTime())
-                            .message("면접관이 해당 시간에 다른 일정이 있습니다").build()));
+        if (slotIndex.loaded()) {
+            slotIndex.findApplicantConflicts(userId, start, end, excludeId).forEach(c ->
+                    conflicts.add(toConflict("APPLICANT", c.getScheduleId(), c.getTitle(),
+                            c.getStartTime(), c.getEndTime(), APPLICANT_CONFLICT)));
+            if (interviewerId != null) {
+                slotIndex.findInterviewerConflicts(interviewerId, start, end, excludeId).forEach(c ->
+                        conflicts.add(toConflict("INTERVIEWER", c.getScheduleId(), c.getTitle(),
+                                c.getStartTime(), c.getEndTime(), INTERVIEWER_CONFLICT)));
+            }
+        } else {
+            scheduleRepository.findApplicantConflicts(userId, start, end, excludeId).forEach(c ->
+                    conflicts.add(toConflict("APPLICANT", c.getId(), c.getTitle(),
+                            c.getStartTime(), c.getEndTime(), APPLICANT_CONFLICT)));
+            if (interviewerId != null) {
+                scheduleRepository.findInterviewerConflicts(interviewerId, start, end, excludeId).forEach(c ->
+                        conflicts.add(toConflict("INTERVIEWER", c.getId(), c.getTitle(),
+                                c.getStartTime(), c.getEndTime(), INTERVIEWER_CONFLICT)));
+            }
         }
 
         return ScheduleDto.ConflictCheckResponse.builder()
                 .hasConflict(!conflicts.isEmpty()).conflicts(conflicts).build();
     }
 
+    private static ScheduleDto.ConflictCheckResponse.ConflictDetail toConflict(
+            String type, Long scheduleId, String title, LocalDateTime start, LocalDateTime end, String message) {
+        return ScheduleDto.ConflictCheckResponse.ConflictDetail.builder()
+                .type(type).scheduleId(scheduleId).title(title)
+                .startTime(start).endTime(end)
+                .message(message).build();
+    }
+
     private Schedule findById(Long id) {
         return scheduleRepository.findById(id)
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.SCHEDULE_NOT_FOUND));
@@ -200,14 +228,11 @@ public class ScheduleService {
     }
 
     private void sendScheduleNotification(Long userId, String message, Long scheduleId) {
-        try {
-            notificationService.create(NotificationDto.CreateRequest.builder()
-                    .userId(userId).type(NotificationType.SCHEDULE)
-                    .title("일정 알림").message(message)
-                    .link("/schedules/" + scheduleId)
-                    .relatedId(scheduleId).relatedType("SCHEDULE").build());
-        } catch (Exception e) {
-            // 알림 실패 무시
-        }
+        // 커밋 후 아웃박스가 비동기로 저장
+        eventPublisher.publishEvent(new NotificationRequestedEvent(NotificationDto.CreateRequest.builder()
+                .userId(userId).type(NotificationType.SCHEDULE)
+                .title("일정 알림").message(message)
+                .link("/schedules/" + scheduleId)
+                .relatedId(scheduleId).relatedType("SCHEDULE").build()));
     }
 }
@@ -0,0 +1,213 @@
+package halo.corebridge.demo.domain.schedule.service;
+
+import halo.corebridge.demo.domain.schedule.entity.Schedule;
+import halo.corebridge.demo.domain.schedule.enums.ScheduleStatus;
+import halo.corebridge.demo.domain.schedule.repository.ScheduleRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사람별 활성 일정(SCHEDULED / IN_PROGRESS) 시간대 인덱스
+ *
+ * 지원자·면접관마다 시작 시각 순 TreeSet을 두고, 겹침 검사는
+ * [newStart - 가장 긴 일정 길이, newEnd) 구간만 훑으므로 O(log n + k) 이며 DB를 조회하지 않습니다.
+ *
+ * 기동 시 DB에서 한 번 적재하고, 이후에는 ScheduleService가 커밋 후 갱신합니다.
+ * 적재 전에는 loaded()가 false이므로 호출 측이 DB 쿼리로 대신 검사합니다.
+ *
+ * 갱신은 세 맵(byId, 지원자, 면접관)을 함께 바꾸므로 인덱스 lock 안에서 하고,
+ * 적재 중 먼저 들어온 커밋 후 갱신이 있으면 그 일정은 적재 시 읽은(더 오래된) 값으로 덮지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleSlotIndex {
+
+    private static final EnumSet<ScheduleStatus> ACTIVE =
+            EnumSet.of(ScheduleStatus.SCHEDULED, ScheduleStatus.IN_PROGRESS);
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final Map<Long, PersonSlots> byApplicant = new ConcurrentHashMap<>();
+    private final Map<Long, PersonSlots> byInterviewer = new ConcurrentHashMap<>();
+    /** scheduleId → 현재 인덱스에 들어 있는 슬롯 (갱신/삭제 시 이전 값 제거용) */
+    private final Map<Long, Slot> byId = new ConcurrentHashMap<>();
+
+    /** 적재가 끝나기 전에 커밋 후 갱신된 일정 (적재 시 건너뜀) */
+    private final Set<Long> touchedBeforeLoad = new HashSet<>();
+
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<Schedule> active = scheduleRepository.findByStatusIn(ACTIVE);
+        synchronized (this) {
+            for (Schedule schedule : active) {
+                if (!touchedBeforeLoad.contains(schedule.getId())) {
+                    putSlot(schedule);
+                }
+            }
+            touchedBeforeLoad.clear();
+            loaded = true;
+        }
+        log.info("일정 슬롯 인덱스 적재: schedules={}, applicants={}, interviewers={}",
+                active.size(), byApplicant.size(), byInterviewer.size());
+    }
+
+    public boolean loaded() {
+        return loaded;
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    public List<Slot> findApplicantConflicts(Long userId, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        return findConflicts(byApplicant.get(userId), start, end, excludeId);
+    }
+
+    public List<Slot> findInterviewerConflicts(Long interviewerId, LocalDateTime start, LocalDateTime end,
+                                               Long excludeId) {
+        return findConflicts(byInterviewer.get(interviewerId), start, end, excludeId);
+    }
+
+    // ============================================
+    // 갱신 (ScheduleService가 커밋 후 호출)
+    // ============================================
+
+    /** 일정의 현재 상태를 반영 (활성이 아니면 제거) */
+    public synchronized void put(Schedule schedule) {
+        markTouched(schedule.getId());
+        putSlot(schedule);
+    }
+
+    public synchronized void remove(Long scheduleId) {
+        markTouched(scheduleId);
+        removeSlot(scheduleId);
+    }
+
+    // ============================================
+    // Private
+    // ============================================
+
+    private void markTouched(Long scheduleId) {
+        if (!loaded) {
+            touchedBeforeLoad.add(scheduleId);
+        }
+    }
+
+    private void putSlot(Schedule schedule) {
+        removeSlot(schedule.getId());
+        if (!ACTIVE.contains(schedule.getStatus())) {
+            return;
+        }
+        Slot slot = Slot.of(schedule);
+        byId.put(slot.getScheduleId(), slot);
+        byApplicant.computeIfAbsent(slot.getUserId(), k -> new PersonSlots()).add(slot);
+        if (slot.getInterviewerId() != null) {
+            byInterviewer.computeIfAbsent(slot.getInterviewerId(), k -> new PersonSlots()).add(slot);
+        }
+    }
+
+    private void removeSlot(Long scheduleId) {
+        Slot slot = byId.remove(scheduleId);
+        if (slot == null) {
+            return;
+        }
+        PersonSlots applicant = byApplicant.get(slot.getUserId());
+        if (applicant != null) {
+            applicant.remove(slot);
+        }
+        if (slot.getInterviewerId() != null) {
+            PersonSlots interviewer = byInterviewer.get(slot.getInterviewerId());
+            if (interviewer != null) {
+                interviewer.remove(slot);
+            }
+        }
+    }
+
+    private static List<Slot> findConflicts(PersonSlots slots, LocalDateTime start, LocalDateTime end,
+                                            Long excludeId) {
+        if (slots == null) {
+            return List.of();
+        }
+        return slots.overlapping(start, end, excludeId);
+    }
+
+    /** 한 사람의 활성 일정 (시작 시각, id 순) */
+    private static final class PersonSlots {
+
+        private final NavigableSet<Slot> slots = new TreeSet<>(Slot.ORDER);
+        /** 지금까지 들어온 일정 중 가장 긴 길이 (검색 하한 계산용, 줄어들지 않음) */
+        private Duration maxLength = Duration.ZERO;
+
+        private synchronized void add(Slot slot) {
+            slots.add(slot);
+            Duration length = Duration.between(slot.getStartTime(), slot.getEndTime());
+            if (length.compareTo(maxLength) > 0) {
+                maxLength = length;
+            }
+        }
+
+        private synchronized void remove(Slot slot) {
+            slots.remove(slot);
+        }
+
+        /** start < end 인 기존 일정 중 [start, end)와 겹치는 것 */
+        private synchronized List<Slot> overlapping(LocalDateTime start, LocalDateTime end, Long excludeId) {
+            List<Slot> result = new ArrayList<>();
+            Slot from = Slot.probe(start.minus(maxLength));
+            Slot to = Slot.probe(end);
+            for (Slot slot : slots.subSet(from, true, to, false)) {
+                if (slot.getEndTime().isAfter(start) && !slot.getScheduleId().equals(excludeId)) {
+                    result.add(slot);
+                }
+            }
+            return result;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Slot {
+
+        private static final Comparator<Slot> ORDER = Comparator.comparing(Slot::getStartTime)
+                .thenComparing(Slot::getScheduleId);
+
+        private final Long scheduleId;
+        private final Long userId;
+        private final Long interviewerId;
+        private final String title;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+
+        private static Slot of(Schedule s) {
+            return new Slot(s.getId(), s.getUserId(), s.getInterviewerId(), s.getTitle(),
+                    s.getStartTime(), s.getEndTime());
+        }
+
+        /** subSet 경계용 (같은 시각의 어떤 일정보다도 앞에 정렬됨) */
+        private static Slot probe(LocalDateTime time) {
+            return new Slot(Long.MIN_VALUE, null, null, null, time, time);
+        }
+    }
+}
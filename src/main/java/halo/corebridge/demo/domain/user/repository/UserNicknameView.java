@@ -0,0 +1,11 @@
+package halo.corebridge.demo.domain.user.repository;
+
+/**
+ * 작성자 닉네임 일괄 조회용 프로젝션
+ */
+public interface UserNicknameView {
+
+    Long getUserId();
+
+    String getNickname();
+}
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -27,4 +29,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Long countByStatus(UserStatus status);
 
     Long countByRole(UserRole role);
+
+    /** 여러 사용자의 닉네임 (목록 화면 작성자 표시용, IN 쿼리 한 번) */
+    @Query("SELECT u.userId AS userId, u.nickname AS nickname FROM User u WHERE u.userId IN :userIds")
+    List<UserNicknameView> findNicknames(@Param("userIds") Collection<Long> userIds);
 }
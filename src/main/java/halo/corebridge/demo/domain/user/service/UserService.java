@@ -1,6 +1,8 @@
 package halo.corebridge.demo.domain.user.service;
 
 import halo.corebridge.demo.common.snowflake.Snowflake;
+import halo.corebridge.demo.common.transaction.AfterCommit;
+import halo.corebridge.demo.domain.jobposting.service.JobpostingReadModel;
 import halo.corebridge.demo.domain.user.dto.UserDto;
 import halo.corebridge.demo.domain.user.entity.RefreshToken;
 import halo.corebridge.demo.domain.user.entity.User;
@@ -29,6 +31,7 @@ public class UserService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final JobpostingReadModel readModel;
 
     // ============================================
     // 인증 API
@@ -134,7 +137,10 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        if (request.getNickname() != null) user.updateProfile(request.getNickname());
+        if (request.getNickname() != null) {
+            user.updateProfile(request.getNickname());
+            AfterCommit.run(() -> readModel.renameWriter(userId, request.getNickname()));
+        }
         if (request.getPassword() != null) user.updatePassword(passwordEncoder.encode(request.getPassword()));
 
         log.info("회원 정보 수정: userId={}", userId);
@@ -39,9 +39,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-            Long userId = jwtProvider.getUserIdFromToken(token);
-            String role = jwtProvider.getRole(token).name();
+        JwtPrincipal principal = StringUtils.hasText(token) ? jwtProvider.authenticate(token) : null;
+
+        if (principal != null) {
+            Long userId = principal.getUserId();
+            String role = principal.getRole();
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
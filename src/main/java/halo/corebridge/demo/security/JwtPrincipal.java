@@ -0,0 +1,21 @@
+package halo.corebridge.demo.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증을 마친 Access Token의 인증 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtPrincipal {
+
+    private final Long userId;
+    private final String role;
+    /** 토큰 만료 시각 (epoch ms) */
+    private final long expiresAt;
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAt;
+    }
+}
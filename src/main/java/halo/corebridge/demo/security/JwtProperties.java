@@ -14,4 +14,5 @@ public class JwtProperties {
     private String secret = "corebridge-demo-secret-key-must-be-at-least-256-bits-long-for-hs256";
     private long accessTokenExpiration = 1800000;   // 30분 (ms)
     private long refreshTokenExpiration = 604800000; // 7일 (ms)
+    private int principalCacheSize = 10000;          // 검증된 Access Token 캐시 최대 개수
 }
@@ -6,11 +6,17 @@ import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -19,11 +25,17 @@ public class JwtProvider {
 
     private final JwtProperties jwtProperties;
     private SecretKey secretKey;
+    /** 파서는 불변·스레드 안전하므로 한 번만 생성 */
+    private JwtParser jwtParser;
+
+    /** SHA-256(token) → 검증된 principal (토큰 만료 시 제거) */
+    private final Map<String, JwtPrincipal> principalCache = new ConcurrentHashMap<>();
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     /** Access Token 생성 */
@@ -50,11 +62,67 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * Access Token 인증 (요청당 1회 호출)
+     *
+     * 같은 토큰은 만료 전까지 캐시된 principal을 돌려주어 서명 검증을 생략합니다.
+     * role 클레임이 없는 토큰(Refresh Token 등)은 null을 반환합니다.
+     *
+     * @return 인증 실패 시 null
+     */
+    public JwtPrincipal authenticate(String token) {
+        long now = System.currentTimeMillis();
+        String key = hash(token);
+        JwtPrincipal cached = principalCache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            principalCache.remove(key, cached);
+        }
+
+        Claims claims = parse(token);
+        if (claims == null) {
+            return null;
+        }
+        String role = claims.get("role", String.class);
+        if (role == null || claims.getSubject() == null || claims.getExpiration() == null) {
+            log.warn("Access Token이 아닌 토큰으로 인증 시도");
+            return null;
+        }
+
+        JwtPrincipal principal = new JwtPrincipal(
+                Long.parseLong(claims.getSubject()), role, claims.getExpiration().getTime());
+        if (principalCache.size() >= jwtProperties.getPrincipalCacheSize()) {
+            evictExpired();
+        }
+        if (principalCache.size() < jwtProperties.getPrincipalCacheSize()) {
+            principalCache.put(key, principal);
+        }
+        return principal;
+    }
+
+    /** 만료된 principal 정리 */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        principalCache.values().removeIf(principal -> principal.isExpired(now));
+    }
+
     /** 토큰 유효성 검증 */
     public boolean validateToken(String token) {
+        return parse(token) != null;
+    }
+
+    /** Claims 추출 */
+    public Claims getClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    /** 서명 검증 + 파싱, 실패 시 null */
+    private Claims parse(String token) {
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
+            return getClaims(token);
         } catch (ExpiredJwtException e) {
             log.warn("만료된 토큰: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -66,13 +134,16 @@ public class JwtProvider {
         } catch (IllegalArgumentException e) {
             log.warn("빈 토큰: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
-    /** Claims 추출 */
-    public Claims getClaims(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseSignedClaims(token).getPayload();
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /** userId 추출 */
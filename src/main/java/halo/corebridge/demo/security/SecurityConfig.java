@@ -1,5 +1,6 @@
 package halo.corebridge.demo.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +37,9 @@ public class SecurityConfig {
                 .headers(headers ->
                         headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))  // H2 Console
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치 (원 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // ===== 공개 API =====
                         // 인증
                         .requestMatchers("/api/v1/users/signup", "/api/v1/users/login", "/api/v1/users/refresh").permitAll()
@@ -47,7 +51,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/comments/**").permitAll()
 
                         // State Machine 메타 정보
-                        .requestMatchers(HttpMethod.GET, "/api/v1/processes/steps").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/processes/steps", "/api/v1/processes/steps/graph").permitAll()
 
                         // Mock: Read(BFF), View count, Like count, Hot (GET은 공개)
                         .requestMatchers(HttpMethod.GET, "/api/v1/jobposting-read/**").permitAll()